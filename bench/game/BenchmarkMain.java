@@ -0,0 +1,40 @@
+package game;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks in this directory.
+ * <p>
+ * The benchmarks are compiled together with src/ and the game.ui library, with jmh-core on the classpath
+ * and jmh-generator-annprocess on the annotation processor path, which generates the benchmark list:
+ * <pre>
+ * javac -cp LIBS -processorpath JMH_ANNPROCESS -d out/bench $(find src bench -name '*.java')
+ * java -cp out/bench:LIBS game.BenchmarkMain [regex] [results.json]
+ * </pre>
+ * where LIBS holds the game.ui library, jmh-core, jopt-simple and commons-math3.
+ * Results are written as JSON so that runs can be compared against a saved baseline.
+ */
+public class BenchmarkMain {
+
+    /**
+     * Runs every benchmark whose name matches the given pattern.
+     *
+     * @param args an optional benchmark name pattern (default: all benchmarks),
+     *             and an optional JSON results file (default: jmh-result.json).
+     * @throws RunnerException if the benchmarks fail to run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "game\\..*Benchmark";
+        String results = args.length > 1 ? args[1] : "jmh-result.json";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,57 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+
+import java.util.Random;
+
+/**
+ * Builds populated games for the benchmarks.
+ */
+final class BenchmarkWorld {
+    static final int WIDTH = 200;
+    static final int HEIGHT = 400;
+
+    private BenchmarkWorld() {
+    }
+
+    /**
+     * Creates a model of WIDTH by HEIGHT with the given number of objects placed at random.
+     *
+     * @param entities the number of objects to add.
+     * @param bulletDensity the fraction of objects that are bullets, the rest are split evenly
+     *                      between asteroids, enemies and power-ups.
+     * @param seed the seed for object placement.
+     * @return the populated model.
+     */
+    static GameModel populate(int entities, double bulletDensity, long seed) {
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), WIDTH, HEIGHT);
+        populate(model, entities, bulletDensity, seed);
+        return model;
+    }
+
+    /**
+     * Adds the given number of objects to the model, placed at random.
+     *
+     * @param model the model to add objects to.
+     * @param entities the number of objects to add.
+     * @param bulletDensity the fraction of objects that are bullets.
+     * @param seed the seed for object placement.
+     */
+    static void populate(GameModel model, int entities, double bulletDensity, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < entities; i++) {
+            int x = random.nextInt(model.getWidth());
+            int y = random.nextInt(model.getHeight());
+            if (random.nextDouble() < bulletDensity) {
+                model.addObject(new Bullet(x, y));
+                continue;
+            }
+            switch (random.nextInt(3)) {
+                case 0 -> model.addObject(new Asteroid(x, y));
+                case 1 -> model.addObject(new Enemy(x, y));
+                default -> model.addObject(new ShieldPowerUp(x, y));
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package game;
+
+import game.achievements.*;
+import game.core.SpaceObject;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a full GameController tick and rendering, against a UI that does no drawing.
+ * <p>
+ * A fresh game is built for every iteration. onTick changes the game, so it is measured as single shots of
+ * BATCH ticks each, few enough that the number of objects stays close to the entities parameter and the game
+ * never ends; its score is the time for a whole batch. renderGame does not change the game, so it is measured
+ * as an average time.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class GameControllerBenchmark {
+    /**
+     * The number of ticks timed together against each fresh game.
+     */
+    static final int BATCH = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    @Param({"0.1", "0.5"})
+    public double bulletDensity;
+
+    private GameController controller;
+    private int tick;
+    private Blackhole blackhole;
+
+    @Setup(Level.Trial)
+    public void setUpTrial(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        AchievementManager achievements = new AchievementManager(new MemoryFile());
+        achievements.addAchievement(new GameAchievement("Survivor", "Survive for 2 minutes."));
+        achievements.addAchievement(new GameAchievement("Enemy Exterminator", "Destroy 20 enemies."));
+        achievements.addAchievement(new GameAchievement("Sharp Shooter", "Achieve 99% accuracy."));
+        GameModel model = BenchmarkWorld.populate(entities, bulletDensity, 1);
+        controller = new GameController(new BlackholeUI(), model, achievements);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH)
+    @Measurement(iterations = 50, batchSize = BATCH)
+    public void onTick() {
+        controller.onTick(tick++);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void renderGame() {
+        controller.renderGame();
+    }
+
+    /**
+     * A UI that hands everything it is given to the Blackhole instead of drawing it.
+     */
+    private class BlackholeUI implements UI {
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void pause() {
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public void onStep(Tickable tickable) {
+        }
+
+        @Override
+        public void onKey(KeyHandler key) {
+        }
+
+        @Override
+        public void render(List<SpaceObject> objects) {
+            for (SpaceObject object : objects) {
+                blackhole.consume(object.render());
+            }
+        }
+
+        @Override
+        public void log(String message) {
+            blackhole.consume(message);
+        }
+
+        @Override
+        public void setStat(String label, String value) {
+            blackhole.consume(value);
+        }
+
+        @Override
+        public void logAchievementMastered(String message) {
+            blackhole.consume(message);
+        }
+
+        @Override
+        public void logAchievements(List<Achievement> achievements) {
+            blackhole.consume(achievements);
+        }
+
+        @Override
+        public void setAchievementProgressStat(String achievementName, double progressPercentage) {
+            blackhole.consume(progressPercentage);
+        }
+    }
+
+    /**
+     * An AchievementFile that keeps saved data in memory, so benchmarks do not touch the disk.
+     */
+    private static class MemoryFile implements AchievementFile {
+        private final List<String> lines = new ArrayList<>();
+        private String fileLocation = DEFAULT_FILE_LOCATION;
+
+        @Override
+        public void setFileLocation(String fileLocation) {
+            this.fileLocation = fileLocation;
+        }
+
+        @Override
+        public String getFileLocation() {
+            return fileLocation;
+        }
+
+        @Override
+        public void save(String data) {
+            lines.add(data);
+        }
+
+        @Override
+        public List<String> read() {
+            return new ArrayList<>(lines);
+        }
+    }
+}
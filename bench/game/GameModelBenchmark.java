@@ -0,0 +1,85 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the GameModel methods called on every tick.
+ * <p>
+ * updateGame, checkCollisions and spawnObjects change the model, so they are measured as single shots:
+ * each iteration builds a fresh model and times one batch of BATCH calls against it, which is short enough
+ * that the number of objects stays close to the entities parameter. Their scores are the time for a whole batch.
+ * isOccupying does not change the model, so it is measured as an average time against one model per trial.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class GameModelBenchmark {
+    /**
+     * The number of calls timed together against each fresh model.
+     */
+    static final int BATCH = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    @Param({"0.1", "0.5"})
+    public double bulletDensity;
+
+    private GameModel model;
+    private GameModel readOnlyModel;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        readOnlyModel = BenchmarkWorld.populate(entities, bulletDensity, 1);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        model = BenchmarkWorld.populate(entities, bulletDensity, 1);
+        // Raise the spawn rate so that spawnObjects attempts every spawn
+        model.getShip().addScore(100 * GameModel.SCORE_THRESHOLD * 20);
+        for (int i = 0; i < 20; i++) {
+            model.levelUp();
+        }
+        model.setRandomSeed(tick);
+        tick++;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH)
+    @Measurement(iterations = 50, batchSize = BATCH)
+    public void updateGame() {
+        model.updateGame(tick++ * 10); // Every object moves
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH)
+    @Measurement(iterations = 50, batchSize = BATCH)
+    public void checkCollisions() {
+        model.checkCollisions();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH)
+    @Measurement(iterations = 50, batchSize = BATCH)
+    public void spawnObjects() {
+        model.spawnObjects();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void isOccupying(Blackhole blackhole) {
+        for (int x = 0; x < BenchmarkWorld.WIDTH; x++) {
+            blackhole.consume(readOnlyModel.isOccupying(x, 0));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package game;
+
+import game.core.SpaceObject;
+import game.render.FrameDelta;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks which of GameModel's objects spawned, moved or were removed since the last rendered frame.
+ * <p>
+ * The position each object was last rendered at is remembered. Removals are reported by the model as they
+ * happen, and spawns and moves are found when the next frame is taken by comparing each object against its
+ * last rendered position, so objects moved by anything other than the model are still picked up.
+ */
+final class FrameTracker {
+    private final Map<SpaceObject, int[]> rendered = new IdentityHashMap<>(); // Last rendered (x, y)
+    private List<FrameDelta.Change> removed = new ArrayList<>();
+    private boolean full = true; // True until the first frame is taken
+
+    /**
+     * Records that an object has left the game, at the position it was last rendered at.
+     * Objects that were never rendered are not reported.
+     *
+     * @param object the removed object.
+     */
+    void removed(SpaceObject object) {
+        int[] position = rendered.remove(object);
+        if (position != null) {
+            removed.add(new FrameDelta.Change(object, position[0], position[1]));
+        }
+    }
+
+    /**
+     * Forgets everything rendered so far, so that the next frame is a full frame.
+     */
+    void reset() {
+        rendered.clear();
+        removed = new ArrayList<>();
+        full = true;
+    }
+
+    /**
+     * Returns the changes since the last frame, and remembers the given objects as the current frame.
+     *
+     * @param objects every object in the game.
+     * @param ship the player's ship.
+     * @return the changes since the last frame.
+     */
+    FrameDelta take(List<SpaceObject> objects, SpaceObject ship) {
+        List<SpaceObject> spawned = new ArrayList<>();
+        List<FrameDelta.Change> moved = new ArrayList<>();
+        for (int i = 0; i < objects.size(); i++) {
+            compare(objects.get(i), spawned, moved);
+        }
+        compare(ship, spawned, moved);
+
+        FrameDelta delta = new FrameDelta(spawned, moved, removed, full);
+        removed = new ArrayList<>();
+        full = false;
+        return delta;
+    }
+
+    private void compare(SpaceObject object, List<SpaceObject> spawned, List<FrameDelta.Change> moved) {
+        int[] position = rendered.get(object);
+        if (position == null) {
+            rendered.put(object, new int[] {object.getX(), object.getY()});
+            spawned.add(object);
+        } else if (position[0] != object.getX() || position[1] != object.getY()) {
+            moved.add(new FrameDelta.Change(object, position[0], position[1]));
+            position[0] = object.getX();
+            position[1] = object.getY();
+        }
+    }
+}
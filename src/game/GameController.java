@@ -2,8 +2,13 @@ package game;
 
 import game.achievements.Achievement;
 import game.achievements.AchievementManager;
+import game.achievements.GameAchievement;
 import game.achievements.PlayerStatsTracker;
 import game.core.SpaceObject;
+import game.logging.AsyncLogger;
+import game.logging.GameLogFormat;
+import game.render.DeltaRenderer;
+import game.render.SnapshotBuffer;
 import game.ui.UI;
 import game.utility.Direction;
 import java.util.ArrayList;
@@ -27,6 +32,17 @@ public class GameController {
      */
     private boolean isVerbose;
     private boolean isPaused = false;
+    private TickProfiler profiler; // Only non-null while profiling is on
+    private TickBudget budget; // Only non-null while a tick budget is set
+    private final long[] phaseNanos = new long[TickPhase.values().length]; // Reused by timedTick
+    private DeltaRenderer deltaRenderer; // Draws frames from changes only, null to use UI.render
+    private SnapshotBuffer snapshots; // Receives frames for another thread to draw, null to render directly
+    private GameLoop loop; // Drives ticks instead of UI.onStep, null until started with one
+    private AsyncLogger asyncLogger; // Delivers log messages off the tick thread, null to log synchronously
+    private final HudModel hud = new HudModel(); // The stats last shown, so only changes are set on the UI
+    private boolean shotsFiredChanged = true; // Set by the stats tracker, cleared once achievements are updated
+    private boolean shotsHitChanged = true;
+    private long survivedSeconds = -1; // Whole seconds survived when Survivor was last updated
 
 
     /**
@@ -59,6 +75,18 @@ public class GameController {
         this.achievementManager = achievementManager;
         // Record the start time of the game in milliseconds
         this.startTime = System.currentTimeMillis();
+        // Only recompute shot achievements after shots are recorded
+        model.getStatsTracker().addListener(new PlayerStatsTracker.Listener() {
+            @Override
+            public void onShotFired(PlayerStatsTracker stats) {
+                shotsFiredChanged = true;
+            }
+
+            @Override
+            public void onShotHit(PlayerStatsTracker stats) {
+                shotsHitChanged = true;
+            }
+        });
         // Start the UI
         ui.start();
     }
@@ -109,6 +137,27 @@ public class GameController {
         ui.onKey(this::handlePlayerInput);
     }
 
+    /**
+     * Starts the game on the given loop instead of the UI's onStep cadence.
+     * <p>
+     * The loop should tick this controller's onTick method. Player input from the UI is posted to the loop,
+     * so that it is handled on the loop thread between ticks, and pausing the game also pauses the loop.
+     *
+     * @param loop the loop to run the game on.
+     * @requires loop ticks this.onTick
+     *
+     * @example
+     *
+     * GameLoop loop = new GameLoop(controller::onTick, alpha -> { }, 30, 60);
+     * controller.startGame(loop);
+     */
+    public void startGame(GameLoop loop) {
+        this.loop = loop;
+        this.startTime = System.currentTimeMillis();
+        ui.onKey(input -> loop.post(() -> handlePlayerInput(input)));
+        loop.start();
+    }
+
     /**
      * Uses the provided tick to call and advance the following:<br>
      * - A call to model.updateGame(tick) to advance the game by the given tick.<br>
@@ -117,6 +166,9 @@ public class GameController {
      * - A call to model.levelUp() to check and handle leveling.<br>
      * - A call to refreshAchievements(tick) to handle achievement updating.<br>
      * - A call to renderGame() to draw the current state of the game.<br>
+     * <p>
+     * If profiling is on, the duration of each of these phases is recorded in the TickProfiler.
+     * If a tick budget is set, drawing may be skipped to stay within it, see setTickBudget.
      *
      * @param tick the provided tick
      * @provided
@@ -128,13 +180,17 @@ public class GameController {
      * @assumptions The game model and achievements are properly updated and managed during each tick.
      */
     public void onTick(int tick) {
-        model.updateGame(tick); // Update GameObjects
-        model.checkCollisions(); // Check for Collisions
-        model.spawnObjects(); // Handles new spawns
-        model.levelUp(); // Level up when score threshold is met
-        refreshAchievements(tick); // Handle achievement updating.
+        if (profiler != null || budget != null) {
+            timedTick(tick);
+        } else {
+            model.updateGame(tick); // Update GameObjects
+            model.checkCollisions(); // Check for Collisions
+            model.spawnObjects(); // Handles new spawns
+            model.levelUp(); // Level up when score threshold is met
+            refreshAchievements(tick); // Handle achievement updating.
 
-        renderGame(); // Update Visual
+            renderGame(); // Update Visual
+        }
 
         // Check game over
         if (model.checkGameOver()) {
@@ -143,6 +199,108 @@ public class GameController {
         }
     }
 
+    /**
+     * Runs the same phases as onTick, timing each one for the profiler and the tick budget.
+     * Drawing is skipped if the budget says so, and is then not recorded by the profiler.
+     *
+     * @param tick the provided tick
+     */
+    private void timedTick(int tick) {
+        long start = System.nanoTime();
+        model.updateGame(tick);
+        long updated = System.nanoTime();
+        phaseNanos[TickPhase.UPDATE.ordinal()] = updated - start;
+        model.checkCollisions();
+        long collided = System.nanoTime();
+        phaseNanos[TickPhase.COLLISIONS.ordinal()] = collided - updated;
+        model.spawnObjects();
+        long spawned = System.nanoTime();
+        phaseNanos[TickPhase.SPAWN.ordinal()] = spawned - collided;
+        model.levelUp();
+        long levelled = System.nanoTime();
+        phaseNanos[TickPhase.LEVEL_UP.ordinal()] = levelled - spawned;
+        refreshAchievements(tick);
+        long refreshed = System.nanoTime();
+        phaseNanos[TickPhase.ACHIEVEMENTS.ordinal()] = refreshed - levelled;
+        boolean skipFrame = budget != null && budget.shouldSkipFrame(refreshed - start);
+        if (!skipFrame) {
+            renderGame();
+        }
+        long end = System.nanoTime();
+        phaseNanos[TickPhase.RENDER.ordinal()] = end - refreshed;
+
+        if (profiler != null) {
+            for (TickPhase phase : TickPhase.values()) {
+                if (phase != TickPhase.RENDER || !skipFrame) {
+                    profiler.record(phase, phaseNanos[phase.ordinal()]);
+                }
+            }
+            profiler.recordTick(end - start);
+        }
+        if (budget != null) {
+            budget.recordTick(phaseNanos, end - start);
+        }
+    }
+
+    /**
+     * Sets a time budget for each tick, or removes it.
+     * <p>
+     * While a budget is set, drawing is skipped on ticks whose essential phases have already used it up,
+     * verbose achievement logging is skipped while the game is overloaded, and overruns are recorded in the
+     * TickBudget by the phase that caused them. Sustained overload is reported to the UI log.
+     *
+     * @param budgetNanos the time each tick should fit in, in nanoseconds, or 0 to remove the budget.
+     * @throws IllegalArgumentException if budgetNanos is negative.
+     */
+    public void setTickBudget(long budgetNanos) {
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("Tick budget must not be negative: " + budgetNanos);
+        }
+        budget = budgetNanos == 0 ? null : new TickBudget(budgetNanos, this::log);
+    }
+
+    /**
+     * Returns the budget ticks are kept within.
+     *
+     * @return the current TickBudget, or null if no budget is set.
+     */
+    public TickBudget getTickBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns whether non-essential work should be skipped because ticks keep going over budget.
+     *
+     * @return true if a tick budget is set and the game is overloaded.
+     */
+    private boolean isShedding() {
+        return budget != null && budget.isOverloaded();
+    }
+
+    /**
+     * Turns per-phase tick profiling on or off.
+     * <p>
+     * While profiling is off, onTick does no timing at all. Turning profiling on starts with an empty profiler.
+     *
+     * @param profiling true to record tick phase durations, false to stop.
+     */
+    public void setProfiling(boolean profiling) {
+        if (!profiling) {
+            profiler = null;
+        } else if (profiler == null) {
+            profiler = new TickProfiler();
+        }
+    }
+
+    /**
+     * Returns the profiler recording tick phase durations.
+     *
+     * @return the current TickProfiler, or null if profiling is off.
+     */
+    public TickProfiler getTickProfiler() {
+        return profiler;
+    }
+
     /**
      * Displays a Game Over window containing the player's final statistics and achievement
      * progress.
@@ -216,8 +374,13 @@ public class GameController {
      * - The current level
      * - The time survived since the game started
      * Additionally, it renders all the space objects in the game, including the ship itself.
+     * If a DeltaRenderer has been set, only the changes since the last frame are passed to it instead,
+     * and UI.render is not called. If a SnapshotBuffer has been set, a snapshot of the frame is published
+     * to it instead, and neither is called.
      *
      * The method interacts with the UI to update the player's statistics and displays a list of space objects.
+     * Only the statistics that changed since the last call are set on the UI, and the time survived
+     * only changes once per second.
      * This allows the player to see their current progress and any relevant visual representation of the game state.
      *
      * @provided
@@ -228,14 +391,19 @@ public class GameController {
      *
      */
     public void renderGame() {
-        // Update the UI with the player's current score
-        ui.setStat("Score", String.valueOf(model.getShip().getScore()));
-        // Update the UI with the player's current health
-        ui.setStat("Health", String.valueOf(model.getShip().getHealth()));
-        // Update the UI with the current game level
-        ui.setStat("Level", String.valueOf(model.getLevel()));
-        // Update the UI with the time survived, in seconds
-        ui.setStat("Time Survived", ((System.currentTimeMillis() - startTime) / 1000) + " seconds");
+        // Update the HUD with the player's score and health, the level, and the time survived
+        hud.update(model.getShip().getScore(), model.getShip().getHealth(), model.getLevel(),
+                System.currentTimeMillis() - startTime);
+        // Update the UI with only the stats that changed
+        hud.publish(ui);
+        if (snapshots != null) {
+            model.publishSnapshot(snapshots);
+            return;
+        }
+        if (deltaRenderer != null) {
+            deltaRenderer.render(model.takeFrameDelta());
+            return;
+        }
         // Prepare a list of all space objects, including the player's ship
         List<SpaceObject> temp = new ArrayList<>(model.getSpaceObjects());
         temp.add(model.getShip());
@@ -243,6 +411,82 @@ public class GameController {
         ui.render(temp);
     }
 
+    /**
+     * Sets the renderer used to draw frames from the changes since the previous frame.
+     * <p>
+     * While set, the model tracks changes between frames and renderGame passes them to the renderer
+     * instead of copying every object into a list for UI.render. The first frame it receives is a full frame.
+     *
+     * @param renderer the renderer to draw changes with, or null to go back to UI.render.
+     */
+    public void setDeltaRenderer(DeltaRenderer renderer) {
+        deltaRenderer = renderer;
+        model.setFrameTracking(false); // Restart from a full frame
+        model.setFrameTracking(renderer != null);
+    }
+
+    /**
+     * Sets the buffer that frames are published to, for a UI thread to read and draw at its own rate.
+     * <p>
+     * While set, renderGame only copies positions, types and HUD values into the buffer, and does not
+     * wait for anything to be drawn. The stats are still set on the UI as usual.
+     *
+     * @param buffer the buffer to publish frames to, or null to render directly.
+     */
+    public void setSnapshotBuffer(SnapshotBuffer buffer) {
+        snapshots = buffer;
+    }
+
+    /**
+     * Turns asynchronous logging on or off, for both this controller and its model.
+     * <p>
+     * While on, log messages are queued as structured events and formatted and passed to UI.log in batches
+     * on a background thread, in the order they were logged, so verbose mode does not slow down ticks.
+     * Verbose achievement progress and tick budget warnings go through the same queue, so every message
+     * reaches the UI in the order it was logged. Turning it off delivers every queued message before returning.
+     * <p>
+     * While on, UI.log and UI.logAchievements are called from the "async-logger" thread rather than the
+     * thread that ticks the game, so the UI must be safe to log to from another thread.
+     *
+     * @param async true to log on a background thread, false to call UI.log directly.
+     */
+    public void setAsyncLogging(boolean async) {
+        if (async == (asyncLogger != null)) {
+            return;
+        }
+        if (async) {
+            asyncLogger = new AsyncLogger(ui::log);
+            model.setAsyncLogger(asyncLogger);
+        } else {
+            model.setAsyncLogger(null);
+            asyncLogger.close();
+            asyncLogger = null;
+        }
+    }
+
+    private void log(String message) {
+        if (asyncLogger != null) {
+            asyncLogger.log(message);
+        } else {
+            ui.log(message);
+        }
+    }
+
+    private void logAchievements(List<Achievement> achievements) {
+        if (asyncLogger == null) {
+            ui.logAchievements(achievements);
+            return;
+        }
+        // Copy the progress now, since it may change before the UI is called
+        List<Achievement> snapshot = new ArrayList<>(achievements.size());
+        for (Achievement achievement : achievements) {
+            GameAchievement copy = new GameAchievement(achievement.getName(), achievement.getDescription());
+            copy.setProgress(achievement.getProgress());
+            snapshot.add(copy);
+        }
+        asyncLogger.execute(() -> ui.logAchievements(snapshot));
+    }
+
     /**
      * Retrieves the player statistics tracker associated with the game model.
      *
@@ -331,22 +575,22 @@ public class GameController {
         switch (input) {
             case "W" -> {
                 // Move ship up
-                model.getShip().move(Direction.UP);
+                model.getShip().move(Direction.UP, model.getWidth(), model.getHeight());
                 moved = true;
             }
             case "A" -> {
                 // Move ship right
-                model.getShip().move(Direction.LEFT);
+                model.getShip().move(Direction.LEFT, model.getWidth(), model.getHeight());
                 moved = true;
             }
             case "S" -> {
                 // Move ship left
-                model.getShip().move(Direction.DOWN);
+                model.getShip().move(Direction.DOWN, model.getWidth(), model.getHeight());
                 moved = true;
             }
             case "D" -> {
                 // Move ship down
-                model.getShip().move(Direction.RIGHT);
+                model.getShip().move(Direction.RIGHT, model.getWidth(), model.getHeight());
                 moved = true;
             }
             case "F" -> {
@@ -357,12 +601,15 @@ public class GameController {
             //Pause Game
             case "P" -> pauseGame();
             // Handle unrecognized input
-            default -> ui.log("Invalid input. Use W, A, S, D, F, or P.");
+            default -> log("Invalid input. Use W, A, S, D, F, or P.");
         }
         // If verbose mode is enabled and the ship moved, log the new position
         if (isVerbose && moved) {
-            ui.log("Ship moved to (" + model.getShip().getX() + ", "
-                    + model.getShip().getY() + ")");
+            if (asyncLogger != null) {
+                asyncLogger.log(GameLogFormat.SHIP_MOVED, null, model.getShip().getX(), model.getShip().getY());
+            } else {
+                ui.log(GameLogFormat.SHIP_MOVED.toString(null, model.getShip().getX(), model.getShip().getY()));
+            }
         }
     }
 
@@ -383,11 +630,14 @@ public class GameController {
     public void pauseGame() {
         ui.pause();
         isPaused = !isPaused;
+        if (loop != null) {
+            loop.setPaused(isPaused);
+        }
 
         if (isPaused) {
-            ui.log("Game paused.");
+            log("Game paused.");
         } else {
-            ui.log("Game unpaused.");
+            log("Game unpaused.");
         }
     }
 
@@ -400,7 +650,12 @@ public class GameController {
      *     "Enemy Exterminator" - Progress is based on the number of shots hit (max 20 hits).
      *     "Sharp Shooter" - Progress is based on shot accuracy (only if more than 10 shots fired).
      *
-     * The achievement progress is logged at regular intervals when verbosity is enabled.
+     * Each achievement is only updated when its inputs have changed: Survivor once per second survived,
+     * and the others when the PlayerStatsTracker records a shot fired or hit. Newly mastered achievements
+     * are then logged through the AchievementManager.
+     *
+     * The achievement progress is logged at regular intervals when verbosity is enabled,
+     * unless ticks are going over their budget.
      *
      * @param tick The current game tick, used to control the frequency of logging achievement progress.
      * @provided
@@ -411,73 +666,43 @@ public class GameController {
      *
      */
     public void refreshAchievements(int tick) {
-        int shotsFired = model.getStatsTracker().getShotsFired();
-        int shotsHit = model.getStatsTracker().getShotsHit();
-        long elapsedMillis = System.currentTimeMillis() - startTime;
+        PlayerStatsTracker stats = model.getStatsTracker();
 
         // Survivor: mastered at 120 seconds
-        double survivalTimeProgress = Math.min(elapsedMillis / 1000.0 / 120.0, 1.0);
+        long seconds = (System.currentTimeMillis() - startTime) / 1000;
+        if (seconds != survivedSeconds) {
+            achievementManager.updateAchievement("Survivor", Math.min(seconds / 120.0, 1.0));
+            survivedSeconds = seconds;
+        }
 
         // Enemy Exterminator: mastered at 20 hits
-        double shotHitProgress = Math.min(shotsHit / 20.0, 1.0);
-
-        // Sharp Shooter: mastered at 99% accuracy, only if more than 10 shots fired
-        float sharpShooterProgress;
-        if (shotsFired > 10) {
-            double accuracy = model.getStatsTracker().getAccuracy();  // accuracy in 0.0–1.0
-            sharpShooterProgress = (float) Math.min(accuracy / 0.99, 1.0);
-        } else {
-            sharpShooterProgress = 0.0f;
+        if (shotsHitChanged) {
+            achievementManager.updateAchievement("Enemy Exterminator", Math.min(stats.getShotsHit() / 20.0, 1.0));
         }
 
-        // Update all achievement progress
-        achievementManager.updateAchievement("Survivor", survivalTimeProgress);
-        achievementManager.updateAchievement("Enemy Exterminator", shotHitProgress);
-        achievementManager.updateAchievement("Sharp Shooter", sharpShooterProgress);
-
-        // Check for newly mastered achievements
-        achievementManager.logAchievementMastered();
-
-        // Verbose logging to UI every 100 ticks
-        if (isVerbose && tick % 100 == 0) {
-            ui.logAchievements(achievementManager.getAchievements());
+        // Sharp Shooter: mastered at 99% accuracy, only if more than 10 shots fired
+        if (shotsHitChanged || shotsFiredChanged) {
+            float sharpShooterProgress;
+            if (stats.getShotsFired() > 10) {
+                double accuracy = stats.getAccuracy();  // accuracy in 0.0–1.0
+                sharpShooterProgress = (float) Math.min(accuracy / 0.99, 1.0);
+            } else {
+                sharpShooterProgress = 0.0f;
+            }
+            achievementManager.updateAchievement("Sharp Shooter", sharpShooterProgress);
         }
-
-        updateAchievements(survivalTimeProgress, shotHitProgress, sharpShooterProgress, tick);
-    }
-
-
-    /**
-     * Updates the progress of various achievements based on current game metrics.
-     *
-     * @param survivalTimeProgress   the progress value for the "Survivor" achievement (0.0 to 1.0)
-     * @param shotHitProgress        the progress value for the "Enemy Exterminator" achievement (0.0 to 1.0)
-     * @param sharpShooterProgress   the progress value for the "Sharp Shooter" achievement (0.0 to 1.0)
-     * @param tick                   the current game tick, used to determine logging intervals
-     *
-     * Updates the achievement manager with the latest progress for each achievement.
-     * If any achievements are newly mastered, logs them. Additionally, logs all achievements
-     * to the UI every 100 ticks if verbose mode is enabled.
-     */
-
-    private void updateAchievements(double survivalTimeProgress, double shotHitProgress,
-                                   float sharpShooterProgress, int tick) {
-        // Update all achievement progress
-        achievementManager.updateAchievement("Survivor", survivalTimeProgress);
-        achievementManager.updateAchievement("Enemy Exterminator", shotHitProgress);
-        achievementManager.updateAchievement("Sharp Shooter", sharpShooterProgress);
+        shotsHitChanged = false;
+        shotsFiredChanged = false;
 
         // Check for newly mastered achievements
         achievementManager.logAchievementMastered();
 
         // Verbose logging to UI every 100 ticks
-        if (isVerbose && tick % 100 == 0) {
-            ui.logAchievements(achievementManager.getAchievements());
+        if (isVerbose && tick % 100 == 0 && !isShedding()) {
+            logAchievements(achievementManager.getAchievements());
         }
     }
 
-
-
     /**
      * Retrieves the current game model.
      *
@@ -0,0 +1,243 @@
+package game;
+
+import game.ui.Tickable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Advances the game at a fixed logical rate, independently of how often frames are drawn.
+ * <p>
+ * Elapsed time is accumulated and consumed in fixed steps, one tick per step, so the game runs at the same
+ * speed however long each frame takes to draw. When the loop falls behind, it catches up with several ticks
+ * in a row, up to a bound, and drops whatever backlog is left so that a long stall does not cause a burst of
+ * ticks. Frames are drawn at their own rate, and each frame is given how far it is between the last tick
+ * and the next one, so that positions can be interpolated.
+ * <p>
+ * The loop runs on its own thread once started. Anything that changes the game, such as player input,
+ * should be handed to post() so that it runs on the loop thread between ticks.
+ *
+ * @example
+ *
+ * SnapshotBuffer buffer = new SnapshotBuffer();
+ * controller.setSnapshotBuffer(buffer);
+ * GameLoop loop = new GameLoop(controller::onTick, alpha -> draw(buffer.read(), alpha), 30, 60);
+ * controller.startGame(loop);
+ */
+public class GameLoop {
+    /**
+     * The default number of ticks the loop runs back to back when it has fallen behind.
+     */
+    public static final int DEFAULT_MAX_CATCH_UP = 5;
+
+    /**
+     * Draws a frame, given how far the game is between its last tick and its next one.
+     */
+    @FunctionalInterface
+    public interface FrameRenderer {
+        /**
+         * Draws the current frame.
+         *
+         * @param alpha the fraction of a tick that has passed since the last tick, from 0.0 up to 1.0.
+         */
+        void render(double alpha);
+    }
+
+    private final Tickable simulation;
+    private final FrameRenderer renderer;
+    private final long tickNanos;
+    private final long frameNanos;
+    private final int maxCatchUp;
+    private final LongSupplier clock;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private long last; // Clock reading at the previous advance
+    private long accumulated; // Time not yet consumed by ticks
+    private long nextFrame; // Clock reading at which the next frame is due
+    private boolean started;
+    private boolean paused;
+    private int tick;
+    private long droppedTicks;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Constructs a GameLoop with the given rates, reading time from the given clock.
+     *
+     * @param simulation advances the game by one tick.
+     * @param renderer draws a frame.
+     * @param ticksPerSecond the logical rate of the game.
+     * @param framesPerSecond the rate at which frames are drawn.
+     * @param maxCatchUp the most ticks to run back to back when behind.
+     * @param clock returns the current time in nanoseconds.
+     * @throws IllegalArgumentException if a rate or maxCatchUp is not positive.
+     */
+    public GameLoop(Tickable simulation, FrameRenderer renderer, int ticksPerSecond, int framesPerSecond,
+                    int maxCatchUp, LongSupplier clock) {
+        if (ticksPerSecond <= 0 || framesPerSecond <= 0 || maxCatchUp <= 0) {
+            throw new IllegalArgumentException("Rates and catch-up must be positive: " + ticksPerSecond
+                    + " ticks/s, " + framesPerSecond + " frames/s, " + maxCatchUp + " ticks");
+        }
+        this.simulation = simulation;
+        this.renderer = renderer;
+        this.tickNanos = TimeUnit.SECONDS.toNanos(1) / ticksPerSecond;
+        this.frameNanos = TimeUnit.SECONDS.toNanos(1) / framesPerSecond;
+        this.maxCatchUp = maxCatchUp;
+        this.clock = clock;
+    }
+
+    /**
+     * Constructs a GameLoop with the given rates, timed by System.nanoTime().
+     *
+     * @param simulation advances the game by one tick.
+     * @param renderer draws a frame.
+     * @param ticksPerSecond the logical rate of the game.
+     * @param framesPerSecond the rate at which frames are drawn.
+     * @throws IllegalArgumentException if a rate is not positive.
+     */
+    public GameLoop(Tickable simulation, FrameRenderer renderer, int ticksPerSecond, int framesPerSecond) {
+        this(simulation, renderer, ticksPerSecond, framesPerSecond, DEFAULT_MAX_CATCH_UP, System::nanoTime);
+    }
+
+    /**
+     * Runs the given task on the loop thread before the next tick, even while paused.
+     *
+     * @param task the task to run.
+     */
+    public void post(Runnable task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Pauses or resumes ticking. Frames are still drawn while paused, and no backlog builds up.
+     * Should only be called on the loop thread, for example from a posted task.
+     *
+     * @param paused true to stop ticking, false to resume.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        accumulated = 0;
+    }
+
+    /**
+     * Runs posted tasks, then any ticks that are due, then draws a frame if one is due.
+     * <p>
+     * Called repeatedly by the loop thread, and can be called directly to drive the loop from a test clock.
+     * The first call only starts the clock.
+     *
+     * @return the number of ticks run.
+     */
+    public int advance() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+
+        long now = clock.getAsLong();
+        if (!started) {
+            started = true;
+            last = now;
+            nextFrame = now;
+        }
+        if (!paused) {
+            accumulated += now - last;
+        }
+        last = now;
+
+        int ran = 0;
+        while (accumulated >= tickNanos && ran < maxCatchUp && !paused) {
+            simulation.tick(tick++);
+            accumulated -= tickNanos;
+            ran++;
+        }
+        if (accumulated >= tickNanos) {
+            // Too far behind, drop the backlog rather than running a burst of ticks
+            droppedTicks += accumulated / tickNanos;
+            accumulated %= tickNanos;
+        }
+
+        if (now - nextFrame >= 0) {
+            renderer.render(paused ? 0.0 : (double) accumulated / tickNanos);
+            nextFrame += frameNanos;
+            if (now - nextFrame >= 0) {
+                nextFrame = now + frameNanos; // Frames are late, skip the ones that were missed
+            }
+        }
+        return ran;
+    }
+
+    /**
+     * Starts running the loop on a new daemon thread.
+     *
+     * @throws IllegalStateException if the loop is already running.
+     */
+    public synchronized void start() {
+        if (running) {
+            throw new IllegalStateException("Game loop already running");
+        }
+        running = true;
+        thread = new Thread(this::run, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the loop thread after its current iteration, and waits for it to finish.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        if (thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    private void run() {
+        while (running) {
+            advance();
+            long now = clock.getAsLong();
+            long untilTick = paused ? frameNanos : tickNanos - accumulated - (now - last);
+            long wait = Math.min(untilTick, nextFrame - now);
+            if (wait > 0 && tasks.isEmpty()) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the loop thread is running.
+     *
+     * @return true if started and not yet stopped.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the number of ticks run so far, which is also the value passed to the next tick.
+     *
+     * @return the number of ticks run.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of ticks skipped because the loop fell too far behind to catch up.
+     *
+     * @return the number of dropped ticks.
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+}
@@ -5,17 +5,28 @@ import game.achievements.PlayerStatsTracker;
 import game.core.*;
 import game.utility.Logger;
 import game.core.SpaceObject;
+import game.events.GameEventBus;
+import game.events.GameEventType;
+import game.logging.AsyncLogger;
+import game.logging.GameLogFormat;
+import game.logging.LogFormat;
+import game.render.FrameDelta;
+import game.render.SnapshotBuffer;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents the game information and state. Stores and manipulates the game state.
  */
 public class GameModel {
-    public static final int GAME_HEIGHT = 20;
-    public static final int GAME_WIDTH = 10;
+    public static final int GAME_HEIGHT = 20; // Default game height
+    public static final int GAME_WIDTH = 10; // Default game width
     public static final int START_SPAWN_RATE = 2; // spawn rate (percentage chance per tick)
     public static final int SPAWN_RATE_INCREASE = 5; // Increase spawn rate by 5% per level
     public static final int START_LEVEL = 1; // Starting level value
@@ -27,10 +38,40 @@ public class GameModel {
 
     private final Random random = new Random(); // ONLY USED IN this.spawnObjects()
     private final List<SpaceObject> spaceObjects; // List of all objects
+    private final List<SpaceObject> spaceObjectsView; // Read-only view of spaceObjects, for getSpaceObjects()
+    private final SpatialGrid grid; // Index of spaceObjects by position
+    // Objects marked for removal, reused every tick so that removal does not allocate
+    private final Set<SpaceObject> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    private EntityStore store; // Packed storage of all objects, only non-null in packed storage mode
+    private ParallelStrips parallel; // Runs ticks on a ForkJoinPool, only non-null when enabled
+    private SpaceObjectPool pool; // Recycles removed objects, only non-null when pooling is on
+    private FrameTracker frames; // Changes since the last frame, only non-null when frame tracking is on
+    private final GameEventBus events = new GameEventBus(); // Publishes what happens in the game
+    private final EntityStore.CollisionHandler packedCollisions = new EntityStore.CollisionHandler() {
+        @Override
+        public void onShipCollision(int index) {
+            collideWithShip(store.view(index));
+        }
+
+        @Override
+        public void onEnemyShot(int index) {
+            events.publish(GameEventType.SHOT_HIT, EntityType.ENEMY, store.getX(index), store.getY(index), 0);
+        }
+
+        @Override
+        public void onAsteroidShot(int index) {
+            events.publish(GameEventType.SHOT_BLOCKED, EntityType.ASTEROID, store.getX(index),
+                    store.getY(index), 0);
+        }
+    };
     private final Ship ship; // Core.Ship starts at (5, 10) with 100 health
+    private final int width; // The width of this game's area
+    private final int height; // The height of this game's area
     private int lvl; // The current game level
+    private int lastTick; // The value passed to the last updateGame, published with snapshots
     private int spawnRate; // The current game spawn rate
     private final Logger logger; // The Logger reference used for logging.
+    private AsyncLogger asyncLogger; // Queues verbose messages off the tick thread, null to log synchronously
     private final PlayerStatsTracker statTracker;
     private boolean isVerbose;
 
@@ -42,7 +83,7 @@ public class GameModel {
      * Example: Model gameModel = new GameModel(ui::log)
      * <p>
      * Initializes:
-     * - A list for tracking SpaceObjects
+     * - A list for tracking SpaceObjects, and a spatial grid indexing them by position
      * - The starting level and spawn rate
      * - A Ship instance
      * - Logger and PlayerStatsTracker references
@@ -52,8 +93,33 @@ public class GameModel {
      */
 
     public GameModel(Logger logger, PlayerStatsTracker statsTracker) {
+        this(logger, statsTracker, GAME_WIDTH, GAME_HEIGHT);
+    }
+
+    /**
+     * Constructs a new GameModel instance with a game area of the given size.
+     * <p>
+     * The size applies to ship movement, bounds checks and spawning. The ship still starts at (5, 10),
+     * so the game area must be large enough to contain that position.
+     *
+     * @param logger function for logging messages
+     * @param statsTracker object for tracking player stats
+     * @param width the width of the game area
+     * @param height the height of the game area
+     * @throws IllegalArgumentException if width or height is not positive, the area is too large to index,
+     *                                  or the area does not contain the ship's starting position
+     */
+    public GameModel(Logger logger, PlayerStatsTracker statsTracker, int width, int height) {
+        if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid game size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
         // Initialize the list that holds all space objects in the game
         spaceObjects = new ArrayList<>();
+        spaceObjectsView = Collections.unmodifiableList(spaceObjects);
+        // Initialize the grid used for position lookups
+        grid = new SpatialGrid(width, height);
         // Set the starting level
         lvl = START_LEVEL;
         // Set the initial spawn rate for enemies or objects
@@ -61,9 +127,15 @@ public class GameModel {
 
         // Create the player's ship
         ship = new Ship();
+        if (!isInBounds(ship, width, height)) {
+            throw new IllegalArgumentException("Game size " + width + "x" + height
+                    + " does not contain the ship's starting position (" + ship.getX() + ", " + ship.getY() + ")");
+        }
         // Init Logger and statTracker
         this.logger = logger;
         statTracker = statsTracker;
+        // Enemies destroyed by bullets count as hits
+        events.subscribe(GameEventType.SHOT_HIT, event -> statTracker.recordShotHit());
     }
 
     /**
@@ -76,12 +148,242 @@ public class GameModel {
     }
 
     /**
-     * Returns a list of all SpaceObjects in the game.
+     * Returns a read-only list of all SpaceObjects in the game.
+     * <p>
+     * Objects must be added with addObject, so that they are indexed by position and take part in
+     * collisions and occupancy checks. The list cannot be modified directly.
+     * In packed storage mode the list is a new copy of every stored entity,
+     * and changes to its objects are not reflected in the game.
      *
-     * @return a list of all spaceObjects.
+     * @return an unmodifiable list of all spaceObjects.
      */
     public List<SpaceObject> getSpaceObjects() {
-        return spaceObjects;
+        if (store != null) {
+            return Collections.unmodifiableList(store.toSpaceObjects());
+        }
+        return spaceObjectsView;
+    }
+
+    /**
+     * Returns the number of SpaceObjects in the game.
+     * <p>
+     * Unlike getSpaceObjects().size(), this never copies objects in packed storage mode.
+     *
+     * @return the number of spaceObjects.
+     */
+    public int getObjectCount() {
+        if (store != null) {
+            return store.size();
+        }
+        return spaceObjects.size();
+    }
+
+    /**
+     * Returns the x-coordinate of the object at the given position in the object list.
+     * <p>
+     * Together with getObjectCount, getObjectY and getObjectType, this lets callers scan every object
+     * without copying them in packed storage mode.
+     *
+     * @param index the position of the object, from 0 to getObjectCount() - 1.
+     * @return the object's x-coordinate.
+     */
+    public int getObjectX(int index) {
+        if (store != null) {
+            return store.getX(index);
+        }
+        return spaceObjects.get(index).getX();
+    }
+
+    /**
+     * Returns the y-coordinate of the object at the given position in the object list.
+     *
+     * @param index the position of the object, from 0 to getObjectCount() - 1.
+     * @return the object's y-coordinate.
+     */
+    public int getObjectY(int index) {
+        if (store != null) {
+            return store.getY(index);
+        }
+        return spaceObjects.get(index).getY();
+    }
+
+    /**
+     * Returns the type of the object at the given position in the object list.
+     *
+     * @param index the position of the object, from 0 to getObjectCount() - 1.
+     * @return the object's type.
+     * @throws IllegalArgumentException if the object is not one of the known SpaceObject classes.
+     */
+    public EntityType getObjectType(int index) {
+        if (store != null) {
+            return store.getType(index);
+        }
+        return EntityType.of(spaceObjects.get(index));
+    }
+
+    /**
+     * Enables or disables packed storage mode.
+     * <p>
+     * In packed storage mode, objects are kept in an EntityStore as parallel arrays of positions and
+     * type tags rather than as SpaceObject instances, which makes updating and collision checks fast
+     * linear sweeps for very large numbers of objects. Existing objects are carried over when switching
+     * modes, but as copies: references held to the previous objects are no longer part of the game.
+     *
+     * @param packed true to enable packed storage, false to go back to storing SpaceObjects.
+     */
+    public void setPackedStorage(boolean packed) {
+        if (packed == (store != null)) {
+            return;
+        }
+        if (packed) {
+            store = new EntityStore(width, height);
+            for (int i = 0; i < spaceObjects.size(); i++) {
+                store.add(spaceObjects.get(i));
+            }
+            spaceObjects.clear();
+            grid.clear();
+            if (frames != null) {
+                frames.reset();
+            }
+        } else {
+            List<SpaceObject> objects = store.toSpaceObjects();
+            store = null;
+            for (int i = 0; i < objects.size(); i++) {
+                addObject(objects.get(i));
+            }
+        }
+    }
+
+    /**
+     * Enables or disables parallel ticking.
+     * <p>
+     * When enabled, updateGame() and the bullet collision checks in checkCollisions() split the game area
+     * into the given number of column strips, and process each strip as a separate task on the given pool.
+     * Results are merged in list order, so the outcome is identical to the sequential path. This is only
+     * worthwhile for large game areas with many objects, and has no effect in packed storage mode.
+     * <p>
+     * While enabled, objects in the game should only be moved by the model itself.
+     *
+     * @param pool the pool to run strip tasks on, or null to disable parallel ticking.
+     * @param strips the number of column strips to split the game area into.
+     * @throws IllegalArgumentException if pool is not null and strips is not positive.
+     */
+    public void setParallel(ForkJoinPool pool, int strips) {
+        if (pool == null) {
+            parallel = null;
+            return;
+        }
+        if (strips <= 0) {
+            throw new IllegalArgumentException("Strip count must be positive: " + strips);
+        }
+        parallel = new ParallelStrips(spaceObjects, grid, width, height, pool, strips);
+    }
+
+    /**
+     * Turns object pooling on or off.
+     * <p>
+     * While pooling is on, spawned objects and fired bullets are taken from a SpaceObjectPool,
+     * and are given back to it when the model removes them, to be reused by a later spawn.
+     * References to removed objects should therefore not be kept, as the same instance may come back
+     * later at a different position. Objects added with addObject are never recycled.
+     *
+     * @param pooling true to recycle objects, false to create a new object for every spawn.
+     */
+    public void setObjectPooling(boolean pooling) {
+        if (!pooling) {
+            pool = null;
+        } else if (pool == null) {
+            pool = new SpaceObjectPool();
+        }
+    }
+
+    /**
+     * Returns the number of unused objects waiting in the object pool.
+     *
+     * @return the pool size, or 0 if pooling is off.
+     */
+    public int getPoolSize() {
+        return pool == null ? 0 : pool.size();
+    }
+
+    /**
+     * Turns frame tracking on or off.
+     * <p>
+     * While frame tracking is on, the model remembers what was in the last frame taken with takeFrameDelta(),
+     * so that only the objects that spawned, moved or were removed since then need to be redrawn.
+     * Turning tracking on starts from nothing, so the next frame taken is a full frame.
+     *
+     * @param tracking true to track changes between frames, false to stop.
+     */
+    public void setFrameTracking(boolean tracking) {
+        if (!tracking) {
+            frames = null;
+        } else if (frames == null) {
+            frames = new FrameTracker();
+        }
+    }
+
+    /**
+     * Returns the changes to the space objects and the ship since the last call, and starts a new frame.
+     * <p>
+     * Nothing is copied for objects that did not change. In packed storage mode objects are recreated for every
+     * frame, so every frame is a full frame, as it is when frame tracking is off.
+     *
+     * @return the changes since the last frame taken.
+     */
+    public FrameDelta takeFrameDelta() {
+        if (frames == null || store != null) {
+            if (frames != null) {
+                frames.reset();
+            }
+            List<SpaceObject> objects = new ArrayList<>(getSpaceObjects());
+            objects.add(ship);
+            return FrameDelta.full(objects);
+        }
+        return frames.take(spaceObjects, ship);
+    }
+
+    /**
+     * Publishes a snapshot of every space object, the ship and the HUD values to the given buffer.
+     * <p>
+     * Only values are copied, into the buffer's pre-allocated snapshots, so another thread can draw the
+     * snapshot while the game keeps changing. In packed storage mode no SpaceObject is created.
+     *
+     * @param buffer the buffer to publish to.
+     */
+    public void publishSnapshot(SnapshotBuffer buffer) {
+        if (store != null) {
+            buffer.publish(store, ship, width, height, lvl, lastTick);
+        } else {
+            buffer.publish(spaceObjects, ship, width, height, lvl, lastTick);
+        }
+    }
+
+    /**
+     * Returns whether packed storage mode is enabled.
+     *
+     * @return true if objects are stored in packed form, false otherwise.
+     */
+    public boolean isPackedStorage() {
+        return store != null;
+    }
+
+    /**
+     * Returns the width of the game area.
+     *
+     * @return the width of the game area.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the game area.
+     *
+     * @return the height of the game area.
+     */
+    public int getHeight() {
+        return height;
     }
 
     /**
@@ -93,12 +395,33 @@ public class GameModel {
         return lvl;
     }
 
-    private void verboseLog(String message) {
-        if (isVerbose) {
-            logger.log(message);
+    /**
+     * Logs an event if verbose mode is on, formatting it only once it is known to be needed.
+     * With an AsyncLogger set, the event is queued unformatted instead.
+     */
+    private void verboseLog(LogFormat format, Object subject, int a, int b) {
+        if (!isVerbose) {
+            return;
+        }
+        if (asyncLogger != null) {
+            asyncLogger.log(format, subject, a, b);
+        } else {
+            logger.log(format.toString(subject, a, b));
         }
     }
 
+    /**
+     * Sets the AsyncLogger verbose messages are queued on, or goes back to logging synchronously.
+     * <p>
+     * While set, verbose messages are not formatted or delivered on the calling thread, so verbose mode
+     * does not slow down ticks. The AsyncLogger should deliver to the same place as this model's Logger.
+     *
+     * @param asyncLogger the logger to queue messages on, or null to call the Logger directly.
+     */
+    public void setAsyncLogger(AsyncLogger asyncLogger) {
+        this.asyncLogger = asyncLogger;
+    }
+
     /**
      * Returns the player statistics tracker associated with the game.
      *
@@ -108,16 +431,36 @@ public class GameModel {
         return statTracker;
     }
 
+    /**
+     * Returns the bus that game events are published on.
+     * <p>
+     * Ship hits, power-up pickups, level ups, shots fired, and bullet hits are each published as they happen,
+     * so that anything interested in them can subscribe rather than check the game state every tick.
+     * The PlayerStatsTracker is subscribed to SHOT_HIT, to record hits.
+     *
+     * @return the game's event bus.
+     */
+    public GameEventBus getEventBus() {
+        return events;
+    }
+
     /**
      * Adds a SpaceObject to the game.
      * <p>
      * Objects are considered part of the game only when they are tracked by the model.
+     * This is the only way to add objects, since getSpaceObjects() is read-only,
+     * so every object in the game is also indexed by position.
      *
      * @param object the SpaceObject to be added to the game.
      * @requires object != null.
      */
     public void addObject(SpaceObject object) {
+        if (store != null) {
+            store.add(object);
+            return;
+        }
         this.spaceObjects.add(object);
+        grid.add(object);
     }
 
     /**
@@ -129,14 +472,58 @@ public class GameModel {
      * @param tick the time step value used to update each object's position.
      */
     public void updateGame(int tick) {
-        List<SpaceObject> toRemove = new ArrayList<>();
-        for (SpaceObject obj : spaceObjects) {
+        lastTick = tick;
+        if (store != null) {
+            store.tick(tick);
+            store.removeOutOfBounds();
+            return;
+        }
+        if (parallel != null) {
+            parallel.updateGame(tick, removed);
+            compact();
+            return;
+        }
+        for (int i = 0; i < spaceObjects.size(); i++) {
+            SpaceObject obj = spaceObjects.get(i);
             obj.tick(tick); // Move objects downward
-            if (!isInBounds(obj)) { // Remove objects that move off-screen
-                toRemove.add(obj);
+            grid.update(obj); // Keep the position index in sync
+            if (!isInBounds(obj, width, height)) { // Remove objects that move off-screen
+                removed.add(obj);
             }
         }
-        spaceObjects.removeAll(toRemove);
+        compact();
+    }
+
+    /**
+     * Removes every object marked for removal from both the object list and the position index.
+     * <p>
+     * Surviving objects are shifted down in a single pass over the list, keeping their order,
+     * and the leftover tail is trimmed from the end. Nothing is allocated.
+     */
+    private void compact() {
+        if (removed.isEmpty()) {
+            return;
+        }
+        int write = 0;
+        for (int read = 0; read < spaceObjects.size(); read++) {
+            SpaceObject obj = spaceObjects.get(read);
+            if (removed.contains(obj)) {
+                grid.remove(obj);
+                if (frames != null) {
+                    frames.removed(obj);
+                }
+                if (pool != null) {
+                    pool.release(obj);
+                }
+            } else {
+                spaceObjects.set(write++, obj);
+            }
+        }
+        // Removing from the end of an ArrayList does not shift any elements
+        for (int i = spaceObjects.size() - 1; i >= write; i--) {
+            spaceObjects.remove(i);
+        }
+        removed.clear();
     }
 
     /**
@@ -144,11 +531,11 @@ public class GameModel {
      * <p>
      * This method makes exactly 6 calls to random.nextInt() and 1 call to random.nextBoolean() in the following order:
      * 1. Check if an Asteroid should spawn using random.nextInt(100) < spawnRate
-     * 2. If so, get Asteroid x-coordinate using random.nextInt(GAME_WIDTH)
+     * 2. If so, get Asteroid x-coordinate using random.nextInt(width)
      * 3. Check if an Enemy should spawn using random.nextInt(100) < spawnRate * ENEMY_SPAWN_RATE
-     * 4. If so, get Enemy x-coordinate using random.nextInt(GAME_WIDTH)
+     * 4. If so, get Enemy x-coordinate using random.nextInt(width)
      * 5. Check if a PowerUp should spawn using random.nextInt(100) < spawnRate * POWER_UP_SPAWN_RATE
-     * 6. If so, get PowerUp x-coordinate using random.nextInt(GAME_WIDTH)
+     * 6. If so, get PowerUp x-coordinate using random.nextInt(width)
      * 7. Use random.nextBoolean() to decide whether to spawn a ShieldPowerUp (true) or a HealthPowerUp (false)
      * <p>
      * All objects spawn at y = 0 (top of the screen).
@@ -160,39 +547,59 @@ public class GameModel {
     public void spawnObjects() {
         // Spawn asteroids with a chance determined by spawnRate
         if (random.nextInt(100) < spawnRate) {
-            int x = random.nextInt(GAME_WIDTH); // Random x-coordinate
+            int x = random.nextInt(width); // Random x-coordinate
             int y = 0; // Spawn at the top of the screen
             // Check if position is not colliding with the ship and if it's an unoccupied space
             if (!isCollidingWithShip(x, y) && isOccupying(x, y)) {
-                addObject(new Asteroid(x, y));
+                spawn(EntityType.ASTEROID, x, y);
             }
         }
 
         // Spawn enemies with a lower chance
         // Half the rate of asteroids
         if (random.nextInt(100) < spawnRate * ENEMY_SPAWN_RATE) {
-            int x = random.nextInt(GAME_WIDTH);
+            int x = random.nextInt(width);
             int y = 0;
             // Check if position is not colliding with the ship and if it's an unoccupied space
             if (!isCollidingWithShip(x, y) && isOccupying(x, y)) {
-                addObject(new Enemy(x, y));
+                spawn(EntityType.ENEMY, x, y);
             }
         }
 
         // Spawn power-ups with an even lower chance
         // One-fourth the spawn rate of asteroids
         if (random.nextInt(100) < spawnRate * POWER_UP_SPAWN_RATE) {
-            int x = random.nextInt(GAME_WIDTH);
+            int x = random.nextInt(width);
             int y = 0;
-            PowerUp powerUp = random.nextBoolean() ? new ShieldPowerUp(x, y) :
-                    new HealthPowerUp(x, y);
+            EntityType powerUp = random.nextBoolean() ? EntityType.SHIELD_POWER_UP :
+                    EntityType.HEALTH_POWER_UP;
             // Check if position is not colliding with the ship and if it's an unoccupied space
             if (!isCollidingWithShip(x, y) && isOccupying(x, y)) {
-                addObject(powerUp);
+                spawn(powerUp, x, y);
             }
         }
     }
 
+    /**
+     * Adds a new object of the given type to the game.
+     * <p>
+     * In packed storage mode no SpaceObject is created at all. Otherwise the object is taken
+     * from the object pool if pooling is on, or created new.
+     *
+     * @param type the type of object to add.
+     * @param x the x-coordinate of the object.
+     * @param y the y-coordinate of the object.
+     */
+    private void spawn(EntityType type, int x, int y) {
+        if (store != null) {
+            store.add(type, x, y);
+        } else if (pool != null) {
+            addObject(pool.acquire(type, x, y));
+        } else {
+            addObject(type.create(x, y));
+        }
+    }
+
     /**
      * Checks if a given position would collide with the ship.
      *
@@ -208,22 +615,19 @@ public class GameModel {
     /**
      * Checks if any space object currently occupies the specified (x, y) position.
      * <p>
-     * Iterates through all active space objects in the game and returns true
+     * Looks up the cell for the given coordinates in the spatial grid, and returns false
      * if any object is located at the given coordinates.
+     * Package-private so that it can be benchmarked directly.
      *
      * @param x the x-coordinate to check.
      * @param y the y-coordinate to check.
-     * @return true if the position is occupied by any space object; false otherwise.
-     */
-    private boolean isOccupying(int x, int y) {
-        // Loop through SpaceObjects
-        for (SpaceObject spaceObject : getSpaceObjects()) {
-            // If Position already is occupied
-            if (spaceObject.getX() == x && spaceObject.getY() == y) {
-                return false;
-            }
+     * @return true if the position is free; false if it is occupied by any space object.
+     */
+    boolean isOccupying(int x, int y) {
+        if (store != null) {
+            return !store.isOccupied(x, y);
         }
-        return true;
+        return !grid.isOccupied(x, y);
     }
 
     /**
@@ -239,8 +643,8 @@ public class GameModel {
             lvl++; // Level Up
             spawnRate += SPAWN_RATE_INCREASE; // Increase Spawn Rate
             // Log Level Up if Verbose is true
-            verboseLog("Level Up! Welcome to Level " + lvl + ". Spawn rate increased to "
-                    + spawnRate + "%.");
+            verboseLog(GameLogFormat.LEVEL_UP, null, lvl, spawnRate);
+            events.publish(GameEventType.LEVEL_UP, null, 0, 0, lvl);
         }
     }
 
@@ -253,7 +657,8 @@ public class GameModel {
     public void fireBullet() {
         int bulletX = ship.getX();
         int bulletY = ship.getY(); // Core.Bullet starts just above the ship
-        spaceObjects.add(new Bullet(bulletX, bulletY));
+        spawn(EntityType.BULLET, bulletX, bulletY);
+        events.publish(GameEventType.SHOT_FIRED, EntityType.BULLET, bulletX, bulletY, 0);
     }
 
     /**
@@ -265,87 +670,113 @@ public class GameModel {
      * - If the ship collides with a PowerUp, apply its effect and log a message if verbose is true.
      * - If the ship collides with an Asteroid or Enemy, the ship takes damage and a message is logged if verbose is true.
      * - The colliding object is removed from the game after any ship collision.
-     *
+     * <p>
+     * Only the grid cell the ship is in needs to be checked for ship collisions.
+     * Positions are re-indexed first, so objects moved outside of updateGame are still found.
+     * In packed storage mode, the same rules are applied by EntityStore.checkCollisions().
      */
     public void checkCollisions() {
-        List<SpaceObject> toRemove = new ArrayList<>();
-        for (SpaceObject obj : spaceObjects) {
+        if (store != null) {
+            store.checkCollisions(ship.getX(), ship.getY(), packedCollisions);
+            return;
+        }
+        for (int i = 0; i < spaceObjects.size(); i++) {
+            grid.update(spaceObjects.get(i));
+        }
+        List<SpaceObject> shipCell = grid.objectsAt(ship.getX(), ship.getY());
+        for (int i = 0; i < shipCell.size(); i++) {
+            SpaceObject obj = shipCell.get(i);
             // Skip checking Ships (No ships should be in this list)
             if (obj instanceof Ship) {
                 continue;
             }
             // Check Ship collision (except Bullets)
             if (isCollidingWithShip(obj.getX(), obj.getY()) && !(obj instanceof Bullet)) {
-                // Handle collision effects
-                switch (obj) {
-                    case PowerUp powerUp -> {
-                        // Apply the effect of the power-up on the ship
-                        powerUp.applyEffect(ship);
-                        // Log the collection of the power-up with verbose information
-                        verboseLog("PowerUp collected: " + obj.render());
-                    }
-                    case Asteroid asteroid -> {
-                        // Apply damage to the ship from the asteroid collision
-                        ship.takeDamage(ASTEROID_DAMAGE);
-                        // Log the collision and the resulting damage
-                        verboseLog("Hit by " + obj.render() + "! Health reduced by "
-                                + ASTEROID_DAMAGE + ".");
-
-                    }
-                    case Enemy enemy -> {
-                        // Apply damage to the ship from the enemy collision
-                        ship.takeDamage(ENEMY_DAMAGE);
-                        // Log the collision and the resulting damage
-                        verboseLog("Hit by " + obj.render() + "! Health reduced by "
-                                + ENEMY_DAMAGE + ".");
-                    }
-                    default -> {
-                    }
-                }
-                toRemove.add(obj);
+                collideWithShip(obj); // Handle collision effects
+                removed.add(obj);
             }
         }
 
-        checkBulletCollision(toRemove);
-        spaceObjects.removeAll(toRemove); // Remove all collided objects
+        if (parallel != null) {
+            parallel.checkBulletCollisions(removed, events);
+        } else {
+            checkBulletCollision();
+        }
+        compact(); // Remove all collided objects
+    }
+
+    /**
+     * Applies the effects of the given object colliding with the ship.
+     *
+     * @param obj the object that collided with the ship.
+     */
+    private void collideWithShip(SpaceObject obj) {
+        switch (obj) {
+            case PowerUp powerUp -> {
+                // Apply the effect of the power-up on the ship
+                powerUp.applyEffect(ship);
+                // Log the collection of the power-up with verbose information
+                verboseLog(GameLogFormat.POWER_UP_COLLECTED, obj.render(), 0, 0);
+                events.publish(GameEventType.POWER_UP_COLLECTED, EntityType.of(obj), obj.getX(), obj.getY(), 0);
+            }
+            case Asteroid asteroid -> {
+                // Apply damage to the ship from the asteroid collision
+                ship.takeDamage(ASTEROID_DAMAGE);
+                // Log the collision and the resulting damage
+                verboseLog(GameLogFormat.HIT, obj.render(), ASTEROID_DAMAGE, 0);
+                events.publish(GameEventType.SHIP_HIT, EntityType.ASTEROID, obj.getX(), obj.getY(),
+                        ASTEROID_DAMAGE);
+
+            }
+            case Enemy enemy -> {
+                // Apply damage to the ship from the enemy collision
+                ship.takeDamage(ENEMY_DAMAGE);
+                // Log the collision and the resulting damage
+                verboseLog(GameLogFormat.HIT, obj.render(), ENEMY_DAMAGE, 0);
+                events.publish(GameEventType.SHIP_HIT, EntityType.ENEMY, obj.getX(), obj.getY(), ENEMY_DAMAGE);
+            }
+            default -> {
+            }
+        }
     }
 
     /**
      * Detects and handles collisions between the ship, bullets, and other space objects.
      *
-     * A collision occurs when two objects share the same x and y coordinates.
+     * A collision occurs when two objects share the same x and y coordinates,
+     * so each bullet is only checked against the objects in its own grid cell.
      *
-     * @param toRemove the list of SpaceObjects to remove
      * Bullet collision handling:
-     *  - If a bullet hits an Enemy, both the bullet and the enemy are removed. Also calls recordShotHit().
-     *  - If a bullet hits an Asteroid, only the bullet is removed.
+     *  - If a bullet hits an Enemy, both the bullet and the enemy are removed. Also publishes SHOT_HIT,
+     *    which calls recordShotHit().
+     *  - If a bullet hits an Asteroid, only the bullet is removed, and SHOT_BLOCKED is published.
      */
 
-    private void checkBulletCollision(List<SpaceObject> toRemove) {
-        for (SpaceObject obj : spaceObjects) {
+    private void checkBulletCollision() {
+        for (int i = 0; i < spaceObjects.size(); i++) {
+            SpaceObject obj = spaceObjects.get(i);
             // Check only Bullets
             if (!(obj instanceof Bullet)) {
                 continue;
             }
-            // Check Bullet collision
-            for (SpaceObject other : spaceObjects) {
+            // Check Bullet collision against objects sharing its cell
+            List<SpaceObject> cell = grid.objectsAt(obj.getX(), obj.getY());
+            for (int j = 0; j < cell.size(); j++) {
+                SpaceObject other = cell.get(j);
                 if (obj == other) {
                     continue;
                 }
-                // Check only Enemies
-
-                if ((obj.getX() == other.getX()) && (obj.getY() == other.getY())) {
-
-                    if (other instanceof Enemy) {
-                        getStatsTracker().recordShotHit();
-                        toRemove.add(obj);  // Remove bullet
-                        toRemove.add(other); // Remove enemy
-                        break;
-
-                    } else if (other instanceof Asteroid) {
-                        toRemove.add(obj);
-                        break;
-                    }
+                // Check only Enemies and Asteroids
+                if (other instanceof Enemy) {
+                    events.publish(GameEventType.SHOT_HIT, EntityType.ENEMY, other.getX(), other.getY(), 0);
+                    removed.add(obj);  // Remove bullet
+                    removed.add(other); // Remove enemy
+                    break;
+
+                } else if (other instanceof Asteroid) {
+                    events.publish(GameEventType.SHOT_BLOCKED, EntityType.ASTEROID, other.getX(), other.getY(), 0);
+                    removed.add(obj);
+                    break;
                 }
             }
         }
@@ -377,19 +808,31 @@ public class GameModel {
     }
 
     /**
-     * Checks whether a given SpaceObject is within the game boundaries.
+     * Checks whether a given SpaceObject is within the default game boundaries.
      * <p>
      * A SpaceObject is considered in bounds if its x and y coordinates
-     * are within the width and height of the game area.
+     * are within GAME_WIDTH and GAME_HEIGHT.
      *
      * @param spaceObject the object to check
      * @return true if the object is within bounds, false otherwise
      */
     public static boolean isInBounds(SpaceObject spaceObject) {
-        if (spaceObject.getX() >= GAME_WIDTH || spaceObject.getX() < 0) {
+        return isInBounds(spaceObject, GAME_WIDTH, GAME_HEIGHT);
+    }
+
+    /**
+     * Checks whether a given SpaceObject is within the boundaries of a game area of the given size.
+     *
+     * @param spaceObject the object to check
+     * @param width the width of the game area
+     * @param height the height of the game area
+     * @return true if the object is within bounds, false otherwise
+     */
+    public static boolean isInBounds(SpaceObject spaceObject, int width, int height) {
+        if (spaceObject.getX() >= width || spaceObject.getX() < 0) {
             // If the x-coordinate is out of bounds, return false
             return false;
-        } else if (spaceObject.getY() >= GAME_HEIGHT || spaceObject.getY() < 0) {
+        } else if (spaceObject.getY() >= height || spaceObject.getY() < 0) {
             // If the y-coordinate is out of bounds, return false
             return false;
         }
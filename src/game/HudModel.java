@@ -0,0 +1,110 @@
+package game;
+
+import game.ui.UI;
+
+/**
+ * The values shown in the game's HUD, tracking which of them changed since they were last shown.
+ * <p>
+ * Values are compared as numbers, so no strings are built for values that did not change. Survival time
+ * is kept in whole seconds, so it only changes, and is only formatted, when the second rolls over.
+ * Every value counts as changed until it is first published.
+ */
+public class HudModel {
+    /**
+     * The stat label for the ship's score.
+     */
+    public static final String SCORE = "Score";
+    /**
+     * The stat label for the ship's health.
+     */
+    public static final String HEALTH = "Health";
+    /**
+     * The stat label for the current level.
+     */
+    public static final String LEVEL = "Level";
+    /**
+     * The stat label for the time survived.
+     */
+    public static final String TIME_SURVIVED = "Time Survived";
+
+    private static final int SCORE_CHANGED = 1;
+    private static final int HEALTH_CHANGED = 2;
+    private static final int LEVEL_CHANGED = 4;
+    private static final int TIME_CHANGED = 8;
+    private static final int ALL_CHANGED = SCORE_CHANGED | HEALTH_CHANGED | LEVEL_CHANGED | TIME_CHANGED;
+
+    private int score;
+    private int health;
+    private int level;
+    private long seconds;
+    private int changed = ALL_CHANGED;
+
+    /**
+     * Updates the HUD values, marking any that differ from their current value as changed.
+     *
+     * @param score the ship's score.
+     * @param health the ship's health.
+     * @param level the current level.
+     * @param elapsedMillis the time survived, in milliseconds.
+     */
+    public void update(int score, int health, int level, long elapsedMillis) {
+        if (score != this.score) {
+            this.score = score;
+            changed |= SCORE_CHANGED;
+        }
+        if (health != this.health) {
+            this.health = health;
+            changed |= HEALTH_CHANGED;
+        }
+        if (level != this.level) {
+            this.level = level;
+            changed |= LEVEL_CHANGED;
+        }
+        long elapsedSeconds = elapsedMillis / 1000;
+        if (elapsedSeconds != seconds) {
+            seconds = elapsedSeconds;
+            changed |= TIME_CHANGED;
+        }
+    }
+
+    /**
+     * Returns whether any value changed since the last publish.
+     *
+     * @return true if there is anything to publish.
+     */
+    public boolean isChanged() {
+        return changed != 0;
+    }
+
+    /**
+     * Sets every changed value as a stat on the given UI in one pass, then marks all values as unchanged.
+     *
+     * @param ui the UI to show the values on.
+     * @return the number of stats set.
+     */
+    public int publish(UI ui) {
+        int published = Integer.bitCount(changed);
+        if ((changed & SCORE_CHANGED) != 0) {
+            ui.setStat(SCORE, String.valueOf(score));
+        }
+        if ((changed & HEALTH_CHANGED) != 0) {
+            ui.setStat(HEALTH, String.valueOf(health));
+        }
+        if ((changed & LEVEL_CHANGED) != 0) {
+            ui.setStat(LEVEL, String.valueOf(level));
+        }
+        if ((changed & TIME_CHANGED) != 0) {
+            ui.setStat(TIME_SURVIVED, seconds + " seconds");
+        }
+        changed = 0;
+        return published;
+    }
+
+    /**
+     * Marks every value as changed, so that all of them are set on the next publish.
+     * Useful after the UI has been cleared.
+     */
+    public void invalidate() {
+        changed = ALL_CHANGED;
+    }
+}
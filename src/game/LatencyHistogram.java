@@ -0,0 +1,126 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of durations in nanoseconds.
+ * <p>
+ * Values are counted in buckets that split each power of two into 8 equal parts, so every
+ * reported percentile is within 12.5% of the true value. Recording a value is a few arithmetic
+ * operations and an array increment, and never allocates.
+ * <p>
+ * A histogram is not thread-safe. Values read while another thread is recording may be slightly stale.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records a single duration.
+     *
+     * @param nanos the duration in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the number of recorded durations.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded durations.
+     *
+     * @return the mean in nanoseconds, or 0.0 if nothing has been recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+
+    /**
+     * Returns the duration that the given fraction of recorded durations are at or below.
+     *
+     * @param fraction the percentile as a fraction, e.g. 0.99 for p99.
+     * @return the percentile in nanoseconds, or 0 if nothing has been recorded.
+     * @requires 0.0 &lt;= fraction &lt;= 1.0
+     */
+    public long getPercentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Discards every recorded duration.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    /**
+     * Returns the p50, p99 and max of this histogram in microseconds.
+     *
+     * @return a human-readable summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d p50=%.1fus p99=%.1fus max=%.1fus", count,
+                getPercentile(0.5) / 1000.0, getPercentile(0.99) / 1000.0, max / 1000.0);
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
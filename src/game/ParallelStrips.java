@@ -0,0 +1,240 @@
+package game;
+
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.Enemy;
+import game.core.EntityType;
+import game.core.SpaceObject;
+import game.core.SpatialGrid;
+import game.events.GameEventBus;
+import game.events.GameEventType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs GameModel's movement, bounds culling and bullet collision checks in parallel.
+ * <p>
+ * The game area is split into column strips, and each strip is processed by its own task on a
+ * ForkJoinPool. Tasks only touch the grid cells in their own strip, and record their results in
+ * arrays indexed by position in the object list. The results are then merged on the calling thread
+ * in list order, so the outcome is identical to GameModel's sequential path. Objects whose re-indexing would
+ * touch cells outside their strip, the grid's shared bucket for objects outside the game area, or a grid row
+ * that has not been allocated yet, are re-indexed during the merge instead.
+ */
+final class ParallelStrips {
+    private static final byte KEEP = 0; // In bounds and re-indexed by its strip
+    private static final byte OUT_OF_BOUNDS = 1; // Moved outside the game area
+    private static final byte CROSSED = 2; // Needs shared grid state to re-index, re-indexed when merging
+
+    private final List<SpaceObject> spaceObjects;
+    private final SpatialGrid grid;
+    private final int width;
+    private final int height;
+    private final ForkJoinPool pool;
+    private final int strips;
+
+    // List indices of the objects in each strip, reused between ticks
+    private final int[][] stripIndices;
+    private final int[] stripSizes;
+    // Objects with an x-coordinate outside the game area belong to no strip and are handled when merging
+    private int[] unassigned = new int[16];
+    private int unassignedSize;
+    // Per object results, indexed by position in the object list
+    private byte[] moveResults = new byte[64];
+    private SpaceObject[] bulletTargets = new SpaceObject[64];
+
+    /**
+     * Creates a parallel runner over the given model state.
+     *
+     * @param spaceObjects the model's object list.
+     * @param grid the model's spatial grid.
+     * @param width the width of the game area.
+     * @param height the height of the game area.
+     * @param pool the pool to run strip tasks on.
+     * @param strips the number of column strips to split the game area into.
+     * @requires strips &gt; 0
+     */
+    ParallelStrips(List<SpaceObject> spaceObjects, SpatialGrid grid, int width, int height,
+                   ForkJoinPool pool, int strips) {
+        this.spaceObjects = spaceObjects;
+        this.grid = grid;
+        this.width = width;
+        this.height = height;
+        this.pool = pool;
+        this.strips = Math.min(strips, width);
+        this.stripIndices = new int[this.strips][16];
+        this.stripSizes = new int[this.strips];
+    }
+
+    /**
+     * Ticks every object, re-indexes it in the grid and marks any that left the game area as removed.
+     *
+     * @param tick the time step value used to update each object's position.
+     * @param removed the set to add objects that moved out of bounds to.
+     */
+    void updateGame(int tick, Set<SpaceObject> removed) {
+        partition(false);
+        if (moveResults.length < spaceObjects.size()) {
+            moveResults = new byte[spaceObjects.size() * 2];
+        }
+        pool.invoke(new StripTask(0, strips, tick, true));
+
+        for (int u = 0; u < unassignedSize; u++) {
+            int i = unassigned[u];
+            SpaceObject obj = spaceObjects.get(i);
+            obj.tick(tick);
+            moveResults[i] = GameModel.isInBounds(obj, width, height) ? CROSSED : OUT_OF_BOUNDS;
+        }
+
+        // Merge in list order
+        for (int i = 0; i < spaceObjects.size(); i++) {
+            SpaceObject obj = spaceObjects.get(i);
+            switch (moveResults[i]) {
+                case OUT_OF_BOUNDS -> removed.add(obj);
+                case CROSSED -> grid.update(obj);
+                default -> {
+                }
+            }
+            moveResults[i] = KEEP;
+        }
+    }
+
+    /**
+     * Finds each bullet's collision and marks the colliding objects as removed.
+     * <p>
+     * Follows the same rules as GameModel's sequential bullet collision check, and publishes the same events
+     * in the same order.
+     *
+     * @param removed the set to add collided objects to.
+     * @param events the bus to publish hits on.
+     */
+    void checkBulletCollisions(Set<SpaceObject> removed, GameEventBus events) {
+        partition(true);
+        if (bulletTargets.length < spaceObjects.size()) {
+            bulletTargets = new SpaceObject[spaceObjects.size() * 2];
+        }
+        pool.invoke(new StripTask(0, strips, 0, false));
+
+        for (int u = 0; u < unassignedSize; u++) {
+            int i = unassigned[u];
+            bulletTargets[i] = findTarget(spaceObjects.get(i));
+        }
+
+        // Merge in list order
+        for (int i = 0; i < spaceObjects.size(); i++) {
+            SpaceObject target = bulletTargets[i];
+            if (target == null) {
+                continue;
+            }
+            bulletTargets[i] = null;
+            removed.add(spaceObjects.get(i)); // Remove bullet
+            if (target instanceof Enemy) {
+                events.publish(GameEventType.SHOT_HIT, EntityType.ENEMY, target.getX(), target.getY(), 0);
+                removed.add(target); // Remove enemy
+            } else {
+                events.publish(GameEventType.SHOT_BLOCKED, EntityType.ASTEROID, target.getX(), target.getY(), 0);
+            }
+        }
+    }
+
+    /**
+     * Sorts the list indices of objects into strips by x-coordinate.
+     *
+     * @param bulletsOnly true to only include bullets.
+     */
+    private void partition(boolean bulletsOnly) {
+        Arrays.fill(stripSizes, 0);
+        unassignedSize = 0;
+        for (int i = 0; i < spaceObjects.size(); i++) {
+            SpaceObject obj = spaceObjects.get(i);
+            if (bulletsOnly && !(obj instanceof Bullet)) {
+                continue;
+            }
+            int x = obj.getX();
+            if (x < 0 || x >= width || obj.getY() < 0 || obj.getY() >= height) {
+                if (unassignedSize == unassigned.length) {
+                    unassigned = Arrays.copyOf(unassigned, unassignedSize * 2);
+                }
+                unassigned[unassignedSize++] = i;
+                continue;
+            }
+            int strip = stripOf(x);
+            if (stripSizes[strip] == stripIndices[strip].length) {
+                stripIndices[strip] = Arrays.copyOf(stripIndices[strip], stripSizes[strip] * 2);
+            }
+            stripIndices[strip][stripSizes[strip]++] = i;
+        }
+    }
+
+    private int stripOf(int x) {
+        return (int) ((long) x * strips / width);
+    }
+
+    private SpaceObject findTarget(SpaceObject bullet) {
+        List<SpaceObject> cell = grid.objectsAt(bullet.getX(), bullet.getY());
+        for (int j = 0; j < cell.size(); j++) {
+            SpaceObject other = cell.get(j);
+            if (other instanceof Enemy || other instanceof Asteroid) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Processes a range of strips, splitting until each task handles a single strip.
+     */
+    private class StripTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int tick;
+        private final boolean move;
+
+        private StripTask(int from, int to, int tick, boolean move) {
+            this.from = from;
+            this.to = to;
+            this.tick = tick;
+            this.move = move;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new StripTask(from, mid, tick, move), new StripTask(mid, to, tick, move));
+                return;
+            }
+            int[] indices = stripIndices[from];
+            for (int k = 0; k < stripSizes[from]; k++) {
+                int i = indices[k];
+                if (move) {
+                    moveResults[i] = tickObject(spaceObjects.get(i));
+                } else {
+                    bulletTargets[i] = findTarget(spaceObjects.get(i));
+                }
+            }
+        }
+
+        private byte tickObject(SpaceObject obj) {
+            int indexedX = grid.indexedX(obj); // Differs from getX() if the object was moved outside a tick
+            obj.tick(tick);
+            if (!GameModel.isInBounds(obj, width, height)) {
+                // Left in its old cell, the grid entry is dropped when the object is removed
+                return OUT_OF_BOUNDS;
+            }
+            if (stripOf(obj.getX()) != from || indexedX < 0 || stripOf(indexedX) != from
+                    || !grid.hasRow(obj.getY())) {
+                // Re-indexing would touch another strip's cells, the outside bucket or the array of rows
+                return CROSSED;
+            }
+            grid.update(obj); // Only touches cells within this strip, in rows that already exist
+            return KEEP;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package game;
+
+import game.utility.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A time budget for a single GameController tick, used to shed non-essential work when ticks run long.
+ * <p>
+ * Moving, colliding, spawning and levelling up always run, so the game itself never slows down. Drawing is
+ * skipped when the essential phases have already used up the budget, for at most MAX_FRAME_SKIP ticks in a
+ * row so the screen never freezes. Every tick that goes over budget is recorded against the phase that took
+ * longest, and once OVERLOAD_TICKS ticks in a row have gone over, the budget reports sustained overload to
+ * its logger, and verbose achievement logging is skipped until the ticks fit the budget again.
+ * <p>
+ * Like TickProfiler, a budget is not thread-safe, and is meant to be used by the tick thread.
+ */
+public class TickBudget {
+    /**
+     * The number of ticks in a row that must go over budget for the game to be considered overloaded.
+     */
+    public static final int OVERLOAD_TICKS = 10;
+    /**
+     * The most frames that are skipped in a row before one is drawn regardless of the budget.
+     */
+    public static final int MAX_FRAME_SKIP = 4;
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private final long budgetNanos;
+    private final Logger logger;
+    private final long[] overrunsByPhase = new long[PHASES.length];
+    private long overruns;
+    private long ticks;
+    private long skippedFrames;
+    private int skippedInARow;
+    private int overrunsInARow;
+    private boolean overloaded;
+
+    /**
+     * Constructs a TickBudget.
+     *
+     * @param budgetNanos the time each tick should fit in, in nanoseconds.
+     * @param logger where to report the start and end of sustained overload.
+     * @throws IllegalArgumentException if budgetNanos is not positive.
+     */
+    public TickBudget(long budgetNanos, Logger logger) {
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("Tick budget must be positive: " + budgetNanos);
+        }
+        this.budgetNanos = budgetNanos;
+        this.logger = logger;
+    }
+
+    /**
+     * Decides whether drawing should be skipped, given how long the tick has taken so far.
+     *
+     * @param elapsedNanos the time taken by the tick's phases so far, in nanoseconds.
+     * @return true if the frame should not be drawn.
+     */
+    public boolean shouldSkipFrame(long elapsedNanos) {
+        if (elapsedNanos > budgetNanos && skippedInARow < MAX_FRAME_SKIP) {
+            skippedInARow++;
+            skippedFrames++;
+            return true;
+        }
+        skippedInARow = 0;
+        return false;
+    }
+
+    /**
+     * Records a finished tick, and reports when sustained overload starts or ends.
+     *
+     * @param phaseNanos how long each phase took, indexed by TickPhase ordinal.
+     * @param tickNanos how long the whole tick took, in nanoseconds.
+     */
+    public void recordTick(long[] phaseNanos, long tickNanos) {
+        ticks++;
+        if (tickNanos <= budgetNanos) {
+            overrunsInARow = 0;
+            if (overloaded) {
+                overloaded = false;
+                logger.log("Tick budget recovered after " + overruns + " overruns.");
+            }
+            return;
+        }
+
+        TickPhase cause = PHASES[0];
+        for (TickPhase phase : PHASES) {
+            if (phaseNanos[phase.ordinal()] > phaseNanos[cause.ordinal()]) {
+                cause = phase;
+            }
+        }
+        overruns++;
+        overrunsByPhase[cause.ordinal()]++;
+        overrunsInARow++;
+        if (!overloaded && overrunsInARow >= OVERLOAD_TICKS) {
+            overloaded = true;
+            logger.log("Tick budget of " + TimeUnit.NANOSECONDS.toMicros(budgetNanos) + "us exceeded for "
+                    + overrunsInARow + " ticks in a row, mostly in " + getWorstPhase() + ".");
+        }
+    }
+
+    /**
+     * Returns whether the recent ticks have gone over budget for long enough to count as sustained overload.
+     *
+     * @return true while overloaded.
+     */
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /**
+     * Returns the phase blamed for the most overruns.
+     *
+     * @return the worst phase, or null if no tick has gone over budget.
+     */
+    public TickPhase getWorstPhase() {
+        if (overruns == 0) {
+            return null;
+        }
+        TickPhase worst = PHASES[0];
+        for (TickPhase phase : PHASES) {
+            if (overrunsByPhase[phase.ordinal()] > overrunsByPhase[worst.ordinal()]) {
+                worst = phase;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Returns the time each tick should fit in.
+     *
+     * @return the budget, in nanoseconds.
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Returns the number of ticks recorded.
+     *
+     * @return the number of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns the number of ticks that went over budget.
+     *
+     * @return the number of overruns.
+     */
+    public long getOverruns() {
+        return overruns;
+    }
+
+    /**
+     * Returns the number of overruns in which the given phase took the longest.
+     *
+     * @param phase the phase to look up.
+     * @return the number of overruns caused by the phase.
+     */
+    public long getOverruns(TickPhase phase) {
+        return overrunsByPhase[phase.ordinal()];
+    }
+
+    /**
+     * Returns the number of frames that were not drawn to stay within budget.
+     *
+     * @return the number of skipped frames.
+     */
+    public long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    /**
+     * Returns a summary of the budget's overruns and skipped frames.
+     *
+     * @return a human-readable summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("budget=%dus ticks=%d overruns=%d worst=%s skippedFrames=%d overloaded=%b",
+                TimeUnit.NANOSECONDS.toMicros(budgetNanos), ticks, overruns, getWorstPhase(),
+                skippedFrames, overloaded);
+    }
+}
@@ -0,0 +1,31 @@
+package game;
+
+/**
+ * The phases of a single GameController tick, in the order they run.
+ */
+public enum TickPhase {
+    /**
+     * Moving objects and removing any that leave the game area, see GameModel.updateGame.
+     */
+    UPDATE,
+    /**
+     * Handling collisions, see GameModel.checkCollisions.
+     */
+    COLLISIONS,
+    /**
+     * Spawning new objects, see GameModel.spawnObjects.
+     */
+    SPAWN,
+    /**
+     * Checking for a level up, see GameModel.levelUp.
+     */
+    LEVEL_UP,
+    /**
+     * Updating achievement progress, see GameController.refreshAchievements.
+     */
+    ACHIEVEMENTS,
+    /**
+     * Drawing the game, see GameController.renderGame.
+     */
+    RENDER
+}
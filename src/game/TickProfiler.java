@@ -0,0 +1,86 @@
+package game;
+
+/**
+ * Records how long each phase of a tick takes, and how long whole ticks take.
+ * <p>
+ * Each phase has its own LatencyHistogram, which can be queried for p50, p99 and max durations.
+ * Like LatencyHistogram, a profiler is not thread-safe, and is meant to be written by the tick thread.
+ */
+public class TickProfiler {
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private final LatencyHistogram[] phases = new LatencyHistogram[PHASES.length];
+    private final LatencyHistogram ticks = new LatencyHistogram();
+
+    /**
+     * Constructs a TickProfiler with no recorded durations.
+     */
+    public TickProfiler() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records the duration of a single phase.
+     *
+     * @param phase the phase that ran.
+     * @param nanos how long it took, in nanoseconds.
+     */
+    public void record(TickPhase phase, long nanos) {
+        phases[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records the duration of a whole tick.
+     *
+     * @param nanos how long the tick took, in nanoseconds.
+     */
+    public void recordTick(long nanos) {
+        ticks.record(nanos);
+    }
+
+    /**
+     * Returns the histogram of durations for the given phase.
+     *
+     * @param phase the phase to look up.
+     * @return the phase's histogram.
+     */
+    public LatencyHistogram getHistogram(TickPhase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * Returns the histogram of whole tick durations.
+     *
+     * @return the tick histogram.
+     */
+    public LatencyHistogram getTickHistogram() {
+        return ticks;
+    }
+
+    /**
+     * Discards every recorded duration.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : phases) {
+            histogram.reset();
+        }
+        ticks.reset();
+    }
+
+    /**
+     * Returns a table of the p50, p99 and max for every phase and for whole ticks.
+     *
+     * @return a human-readable summary, one line per phase.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (TickPhase phase : PHASES) {
+            sb.append(String.format("%-12s ", phase)).append(getHistogram(phase)).append("\n");
+        }
+        sb.append(String.format("%-12s ", "TICK")).append(ticks).append("\n");
+        return sb.toString();
+    }
+}
@@ -1,8 +1,7 @@
 package game.achievements;
 
 import java.util.List;
-
-import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * The AchievementFile interface provides methods to manage the file storage for achievements.
@@ -42,5 +41,33 @@ public interface AchievementFile {
      * @return a list containing all previously saved data entries.
      */
     public List<String> read();
+
+    /**
+     * Returns all previously saved data as a stream, in the order it was saved.
+     * <p>
+     * Implementations may read entries lazily as the stream is consumed, so that large files can be
+     * scanned without holding every entry in memory. The stream may hold the file open, so it should be
+     * closed after use, for example with try-with-resources. By default, the stream is backed by read().
+     *
+     * @return a stream of all previously saved data entries.
+     */
+    default Stream<String> stream() {
+        return read().stream();
+    }
+
+    /**
+     * Returns up to count previously saved entries as a stream, starting from the entry at position from.
+     *
+     * @param from the position of the first entry to return, from 0 for the first entry saved.
+     * @param count the maximum number of entries to return.
+     * @return a stream of the saved data entries in the given range.
+     * @throws IllegalArgumentException if from or count is negative.
+     */
+    default Stream<String> stream(long from, long count) {
+        if (from < 0 || count < 0) {
+            throw new IllegalArgumentException("Invalid range: " + count + " entries from " + from);
+        }
+        return stream().skip(from).limit(count);
+    }
 }
 
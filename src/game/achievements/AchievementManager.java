@@ -6,12 +6,18 @@ import java.util.*;
  * The AchievementManager class is responsible for managing a collection of achievements, including adding,
  * updating, and logging achievements when mastered. Achievements are stored in a map, and the class provides
  * methods for manipulating and logging the achievements, as well as retrieving a list of all registered achievements.
+ * <p>
+ * The manager remembers which achievements have changed since mastery was last checked, so
+ * logAchievementMastered() only looks at those. Progress should therefore be changed through
+ * updateAchievement() rather than on the Achievement itself.
  */
 public class AchievementManager {
 
     private final Map<String, Achievement> achievementMap = new HashMap<>();
     private final AchievementFile achievementFile;
     private final Set<String> loggedAchievements;
+    // Achievements added or updated since mastery was last checked, and not yet logged
+    private final Set<Achievement> changedAchievements = new LinkedHashSet<>();
 
     /**
      * Constructs an AchievementManager with the specified AchievementFile.
@@ -39,15 +45,14 @@ public class AchievementManager {
      * @throws NullPointerException if achievement is null
      */
     public void addAchievement(Achievement achievement) {
-        // Iterate through all keys (achievement names) in the achievementMap
-        for (String name : achievementMap.keySet()) {
-            // Check if the provided achievement's name already exists in the map
-            if (achievement.getName().equals(name)) {
-                throw new IllegalArgumentException();
-            }
+        // Check if the provided achievement's name already exists in the map
+        if (achievementMap.containsKey(achievement.getName())) {
+            throw new IllegalArgumentException();
         }
         // If no duplicate is found, add the new achievement to the achievementMap
         achievementMap.put(achievement.getName(), achievement);
+        // It may already be mastered, so check it on the next call to logAchievementMastered()
+        changedAchievements.add(achievement);
     }
 
     /**
@@ -58,31 +63,35 @@ public class AchievementManager {
      * @throws IllegalArgumentException if no achievement is registered under the provided name
      */
     public void updateAchievement(String achievementName, double absoluteProgressValue) {
-        boolean found = false;
-        // Iterate through all keys (achievement names) in the achievementMap
-        for (String name : achievementMap.keySet()) {
-            if (achievementName.equals(name)) {
-                // Update the progress of the corresponding achievement
-                achievementMap.get(name).setProgress(absoluteProgressValue);
-                found = true;
-            }
-        }
+        Achievement achievement = achievementMap.get(achievementName);
         // If the achievement was not found in the map, throw an exception
-        if (!found) {
+        if (achievement == null) {
             throw new IllegalArgumentException();
         }
+        if (achievement.getProgress() == absoluteProgressValue) {
+            return;
+        }
+        // Update the progress of the achievement, and remember to check it unless it has already been logged
+        achievement.setProgress(absoluteProgressValue);
+        if (!loggedAchievements.contains(achievementName)) {
+            changedAchievements.add(achievement);
+        }
     }
 
     /**
-     * Checks all registered achievements. If any achievement is mastered (progress equals 1.0) and has not
-     * yet been logged, the event is logged via the AchievementFile, and the achievement is marked as logged.
+     * Checks the achievements added or updated since the last call. If any of them is mastered (progress
+     * equals 1.0) and has not yet been logged, the event is logged via the AchievementFile, and the achievement
+     * is marked as logged.
      */
     public void logAchievementMastered() {
-        // Iterate through all achievement values in the achievementMap
-        for (Achievement achievement : achievementMap.values()) {
-            // Check if the achievement's progress is complete (1.0)
+        if (changedAchievements.isEmpty()) {
+            return;
+        }
+        // Iterate through the achievements that changed since the last check
+        for (Achievement achievement : changedAchievements) {
+            // Check if the achievement's progress is complete (1.0) and it has not been logged yet
             if (achievement.getProgress() == 1.0
-                    && loggedAchievements.contains(achievement.getName())) {
+                    && !loggedAchievements.contains(achievement.getName())) {
                 // Create a log entry for the mastered achievement
                 String logData = "Achievement Mastered: " + achievement.getName() + " - "
                         + achievement.getDescription();
@@ -92,6 +101,7 @@ public class AchievementManager {
                 loggedAchievements.add(achievement.getName());
             }
         }
+        changedAchievements.clear();
     }
 
     /**
@@ -0,0 +1,404 @@
+package game.achievements;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An AchievementFile that stores entries as an append-only binary log with a separate index,
+ * so entries can be looked up without reading the whole file.
+ * <p>
+ * The log holds one record per saved entry: its length in bytes followed by its UTF-8 bytes.
+ * The index, stored next to the log with INDEX_SUFFIX appended to its name, holds a fixed-size entry per record:
+ * the record's offset in the log and the hash code of its text. Both files are read through memory mappings,
+ * so get(), readLast() and contains() touch only the records they need. When a log is opened, its index is
+ * loaded into a map from hash code to positions, so contains() only decodes the records whose hash code matches.
+ * <p>
+ * Each record is written and forced to the storage device before its index entry is written. When a file is
+ * opened, any partial index entry, any index entry whose record is missing or cut short, and any record
+ * without an index entry, is treated as an interrupted save and discarded.
+ * <p>
+ * Only the first 2 GB of the log are memory-mapped, and records beyond that are read from the file directly.
+ * The index can hold up to MAX_ENTRIES entries.
+ *
+ * @example
+ *
+ * BinaryLogFile file = new BinaryLogFile("achievements.bin");
+ * AchievementManager manager = new AchievementManager(file);
+ * ...
+ * boolean mastered = file.contains("Achievement Mastered: Survivor - Survive for 10 minutes");
+ * List<String> recent = file.readLast(10);
+ */
+public class BinaryLogFile implements AchievementFile, AutoCloseable {
+
+    /**
+     * The log location used if no other location is provided.
+     */
+    public static final String DEFAULT_LOG_LOCATION = "achievements.bin";
+    /**
+     * The suffix added to the log's file name to name its index.
+     */
+    public static final String INDEX_SUFFIX = ".idx";
+
+    private static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES; // Record offset, then text hash code
+    private static final int HASH_OFFSET = Long.BYTES;
+
+    /**
+     * The largest number of entries a log can hold, so that its whole index can be memory-mapped.
+     */
+    public static final int MAX_ENTRIES = Integer.MAX_VALUE / ENTRY_BYTES;
+
+    private String fileLocation;
+    private FileChannel log;
+    private FileChannel index;
+    private long logSize;
+    private int count;
+    private final ByteBuffer entry = ByteBuffer.allocate(ENTRY_BYTES);
+    private MappedByteBuffer logMap;
+    private MappedByteBuffer indexMap;
+    private int mappedCount = -1; // Number of records covered by the current mappings
+    private final Map<Integer, List<Integer>> positionsByHash = new HashMap<>(); // Record positions by text hash
+
+    /**
+     * Constructs a BinaryLogFile that uses the default file location ("achievements.bin").
+     *
+     * @throws UncheckedIOException if the log or its index cannot be opened.
+     */
+    public BinaryLogFile() {
+        this(DEFAULT_LOG_LOCATION);
+    }
+
+    /**
+     * Constructs a BinaryLogFile that saves to the given file, creating it and its index if needed.
+     *
+     * @param fileLocation the location of the log.
+     * @throws UncheckedIOException if the log or its index cannot be opened.
+     */
+    public BinaryLogFile(String fileLocation) {
+        open(fileLocation);
+    }
+
+    /**
+     * Closes the current log and opens the one at the given location, creating it and its index if needed.
+     *
+     * @param fileLocation the new file location
+     * @throws UncheckedIOException if the log or its index cannot be opened.
+     */
+    @Override
+    public synchronized void setFileLocation(String fileLocation) {
+        closeChannels();
+        open(fileLocation);
+    }
+
+    /**
+     * Gets the current file location where data is being saved.
+     *
+     * @return the current file location
+     */
+    @Override
+    public synchronized String getFileLocation() {
+        return fileLocation;
+    }
+
+    /**
+     * Appends the given data to the log as a new record, and indexes it.
+     *
+     * @param data the data to be saved
+     * @throws IllegalStateException if the log already holds MAX_ENTRIES entries.
+     */
+    @Override
+    public synchronized void save(String data) {
+        if (count == MAX_ENTRIES) {
+            throw new IllegalStateException("Achievement log full: " + fileLocation);
+        }
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+        record.putInt(bytes.length).put(bytes).flip();
+        entry.clear();
+        entry.putLong(logSize).putInt(data.hashCode()).flip();
+        if (log == null) {
+            System.out.println("Error");
+            return;
+        }
+        try {
+            writeFully(log, record, logSize);
+            log.force(false); // The index must never refer to a record that is not on disk
+            writeFully(index, entry, (long) count * ENTRY_BYTES);
+        } catch (IOException e) {
+            System.out.println("Error");
+            return;
+        }
+        positionsByHash.computeIfAbsent(data.hashCode(), hash -> new ArrayList<>(1)).add(count);
+        logSize += record.capacity();
+        count++;
+    }
+
+    /**
+     * Loads and returns every saved entry, in the order they were saved.
+     *
+     * @return a list of saved data entries
+     */
+    @Override
+    public synchronized List<String> read() {
+        return readRange(0, count);
+    }
+
+    /**
+     * Returns every entry saved so far as a stream, decoding each record only as the stream is consumed.
+     * Entries saved after this is called are not included.
+     *
+     * @return a stream of saved data entries
+     */
+    @Override
+    public Stream<String> stream() {
+        return stream(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns up to count entries as a stream, starting from the entry at position from.
+     * Records before from are not read at all, since their positions are found through the index.
+     *
+     * @param from the position of the first entry to return, from 0 for the first entry saved.
+     * @param count the maximum number of entries to return.
+     * @return a stream of the saved data entries in the given range.
+     * @throws IllegalArgumentException if from or count is negative.
+     */
+    @Override
+    public synchronized Stream<String> stream(long from, long count) {
+        if (from < 0 || count < 0) {
+            throw new IllegalArgumentException("Invalid range: " + count + " entries from " + from);
+        }
+        int start = (int) Math.min(from, this.count);
+        int end = start + (int) Math.min(count, this.count - start);
+        return IntStream.range(start, end).mapToObj(this::get);
+    }
+
+    /**
+     * Returns the number of entries in the log.
+     *
+     * @return the number of saved entries.
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Returns the entry saved at the given position, reading only that record.
+     *
+     * @param position the position of the entry, from 0 for the first entry saved.
+     * @return the saved entry.
+     * @throws IndexOutOfBoundsException if there is no entry at the given position.
+     * @throws IllegalStateException if the log has been closed.
+     * @throws UncheckedIOException if a record beyond the mapped part of the log cannot be read.
+     */
+    public synchronized String get(int position) {
+        if (position < 0 || position >= count) {
+            throw new IndexOutOfBoundsException("No entry " + position + " in a log of " + count);
+        }
+        if (!map()) {
+            throw new IllegalStateException("Achievement log closed");
+        }
+        return decode(position);
+    }
+
+    /**
+     * Returns up to the given number of the most recently saved entries, oldest first,
+     * reading only those records.
+     *
+     * @param entries the maximum number of entries to return.
+     * @return the most recent entries.
+     */
+    public synchronized List<String> readLast(int entries) {
+        return readRange(Math.max(0, count - Math.max(0, entries)), count);
+    }
+
+    /**
+     * Returns whether an entry equal to the given data has been saved.
+     * The positions of entries with the same hash code are looked up in memory,
+     * and only those records are read from the log.
+     *
+     * @param data the entry to look for.
+     * @return true if the entry has been saved.
+     */
+    public synchronized boolean contains(String data) {
+        List<Integer> positions = positionsByHash.get(data.hashCode());
+        if (positions == null || !map()) {
+            return false;
+        }
+        for (int position : positions) {
+            if (data.equals(decode(position))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Closes the log and its index. Until setFileLocation() is called, saving and reading print an error.
+     */
+    @Override
+    public synchronized void close() {
+        closeChannels();
+    }
+
+    private void closeChannels() {
+        try {
+            if (log != null) {
+                log.close();
+            }
+            if (index != null) {
+                index.close();
+            }
+        } catch (IOException e) {
+            System.out.println("Error");
+        }
+        log = null;
+        index = null;
+        logMap = null;
+        indexMap = null;
+        mappedCount = -1;
+        positionsByHash.clear();
+    }
+
+    private void open(String fileLocation) {
+        this.fileLocation = fileLocation;
+        try {
+            log = FileChannel.open(Path.of(fileLocation), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            index = FileChannel.open(Path.of(fileLocation + INDEX_SUFFIX), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            count = (int) Math.min(index.size() / ENTRY_BYTES, MAX_ENTRIES);
+            logSize = 0;
+            // Walk back past index entries whose records were not completely written
+            long available = log.size();
+            while (count > 0) {
+                long end = recordEnd(count - 1, available);
+                if (end >= 0) {
+                    logSize = end;
+                    break;
+                }
+                count--;
+            }
+            // Discard anything written after the last complete save
+            index.truncate((long) count * ENTRY_BYTES);
+            log.truncate(logSize);
+        } catch (IOException e) {
+            closeChannels();
+            throw new UncheckedIOException("Could not open achievement log " + fileLocation, e);
+        }
+        mappedCount = -1;
+        if (map()) {
+            for (int i = 0; i < count; i++) {
+                int hash = indexMap.getInt(i * ENTRY_BYTES + HASH_OFFSET);
+                positionsByHash.computeIfAbsent(hash, key -> new ArrayList<>(1)).add(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the end of the record for the given index entry, checking that it lies within the log.
+     *
+     * @param position the position of the index entry.
+     * @param available the size of the log in bytes.
+     * @return the offset just past the record, or -1 if the record is missing or cut short.
+     */
+    private long recordEnd(int position, long available) throws IOException {
+        ByteBuffer offsetBytes = ByteBuffer.allocate(Long.BYTES);
+        readFully(index, offsetBytes, (long) position * ENTRY_BYTES);
+        long offset = offsetBytes.flip().getLong();
+        if (offset < 0 || offset > available - Integer.BYTES) {
+            return -1;
+        }
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(log, length, offset);
+        long end = offset + Integer.BYTES + length.flip().getInt();
+        return end >= offset + Integer.BYTES && end <= available ? end : -1;
+    }
+
+    private List<String> readRange(int from, int to) {
+        List<String> entries = new ArrayList<>(to - from);
+        if (!map()) {
+            return entries;
+        }
+        for (int i = from; i < to; i++) {
+            entries.add(decode(i));
+        }
+        return entries;
+    }
+
+    /**
+     * Maps the index and up to the first 2 GB of the log as far as the last saved record, if they have grown
+     * since they were last mapped.
+     *
+     * @return false if the files could not be mapped.
+     */
+    private boolean map() {
+        if (mappedCount == count) {
+            return true;
+        }
+        if (log == null) {
+            System.out.println("Error");
+            return false;
+        }
+        try {
+            logMap = log.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(logSize, Integer.MAX_VALUE));
+            indexMap = index.map(FileChannel.MapMode.READ_ONLY, 0, (long) count * ENTRY_BYTES);
+        } catch (IOException e) {
+            System.out.println("Error");
+            return false;
+        }
+        mappedCount = count;
+        return true;
+    }
+
+    private String decode(int position) {
+        long offset = indexMap.getLong(position * ENTRY_BYTES);
+        int mapped = logMap.capacity();
+        if (offset <= mapped - Integer.BYTES) {
+            int length = logMap.getInt((int) offset);
+            if (offset + Integer.BYTES + length <= mapped) {
+                byte[] bytes = new byte[length];
+                logMap.get((int) offset + Integer.BYTES, bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        // Beyond the mapped part of the log
+        try {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            readFully(log, length, offset);
+            ByteBuffer bytes = ByteBuffer.allocate(length.flip().getInt());
+            readFully(log, bytes, offset + Integer.BYTES);
+            return new String(bytes.array(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read achievement log " + fileLocation, e);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
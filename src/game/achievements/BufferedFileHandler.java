@@ -0,0 +1,432 @@
+package game.achievements;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * An AchievementFile that saves on a background thread, so that saving never waits for the disk.
+ * <p>
+ * save() only queues the data. A writer thread keeps one channel open to the file, and commits queued saves
+ * in groups: once the first save of a group has waited for the flush interval, or as soon as MAX_BATCH saves
+ * are queued, every queued save is written with a single write. With SyncPolicy.EVERY_BATCH, each group is
+ * also forced to the storage device before it counts as written.
+ * <p>
+ * If a group cannot be written, its saves stay queued and are retried, and the error is thrown from the next
+ * call to flush(), read(), stream(), setFileLocation() or close(). close() gives up on saves that still
+ * cannot be written.
+ * <p>
+ * read(), setFileLocation() and flush() wait until every earlier save has been written, so data is always
+ * read back in the order it was saved. Saves made while setFileLocation() is switching files wait until the
+ * switch is done, so every save goes to the file that was current when it was made.
+ * close() writes everything still queued and stops the writer thread.
+ * The file has the same format as FileHandler's, one saved entry per line.
+ */
+public class BufferedFileHandler implements AchievementFile, AutoCloseable {
+    /**
+     * The default time a save may wait to be grouped with later saves, in milliseconds.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+    /**
+     * The number of queued saves that are committed straight away, without waiting for the flush interval.
+     */
+    public static final int MAX_BATCH = 256;
+
+    private static final long RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(100); // Least wait after a failed write
+
+    /**
+     * How durable a committed group of saves is.
+     */
+    public enum SyncPolicy {
+        /**
+         * Groups are handed to the operating system, which writes them to disk when it chooses.
+         */
+        NONE,
+        /**
+         * Each group is forced to the storage device before it counts as written.
+         */
+        EVERY_BATCH
+    }
+
+    private final long flushIntervalNanos;
+    private final SyncPolicy syncPolicy;
+    private final Object lock = new Object();
+    // Saves not yet written, including the group being written, guarded by lock
+    private final ArrayDeque<String> pending = new ArrayDeque<>();
+    private long queued; // Number of saves ever queued, guarded by lock
+    private long written; // Number of saves ever written, guarded by lock
+    private boolean flushRequested; // Guarded by lock
+    private boolean closed; // Guarded by lock
+    private boolean switching; // True while setFileLocation() is switching files, guarded by lock
+    private IOException failure; // The last failed write, until it is reported, guarded by lock
+    private String fileLocation; // Guarded by this
+    private FileChannel channel; // Opened on first write, guarded by this
+    private final Thread writer;
+
+    /**
+     * Constructs a BufferedFileHandler that saves to the given file.
+     *
+     * @param fileLocation the file to save to.
+     * @param flushIntervalMillis the longest a save waits to be grouped with later saves, in milliseconds.
+     * @param syncPolicy how durable each committed group is.
+     * @throws IllegalArgumentException if flushIntervalMillis is negative.
+     */
+    public BufferedFileHandler(String fileLocation, long flushIntervalMillis, SyncPolicy syncPolicy) {
+        if (flushIntervalMillis < 0) {
+            throw new IllegalArgumentException("Flush interval must not be negative: " + flushIntervalMillis);
+        }
+        this.fileLocation = fileLocation;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.syncPolicy = syncPolicy;
+        writer = new Thread(this::writeLoop, "achievement-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Constructs a BufferedFileHandler that saves to the default file location ("achievements.log"),
+     * grouping saves for up to DEFAULT_FLUSH_INTERVAL_MILLIS, and leaving syncing to the operating system.
+     */
+    public BufferedFileHandler() {
+        this(DEFAULT_FILE_LOCATION, DEFAULT_FLUSH_INTERVAL_MILLIS, SyncPolicy.NONE);
+    }
+
+    /**
+     * Writes every queued save to the current file, then saves to the given file from now on.
+     * Saves made by other threads in the meantime wait until the new file is in use.
+     *
+     * @param fileLocation the new file location
+     * @throws UncheckedIOException if queued saves could not be written to the current file, in which case
+     *         the file location is not changed.
+     */
+    @Override
+    public void setFileLocation(String fileLocation) {
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (switching) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            switching = true;
+        }
+        try {
+            // Not interruptible, since queued saves must not end up in the new file
+            interrupted |= !awaitWritten(false);
+            synchronized (this) {
+                closeChannel();
+                this.fileLocation = fileLocation;
+            }
+        } finally {
+            synchronized (lock) {
+                switching = false;
+                lock.notifyAll();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Gets the current file location where data is being saved.
+     *
+     * @return the current file location
+     */
+    @Override
+    public synchronized String getFileLocation() {
+        return fileLocation;
+    }
+
+    /**
+     * Queues the given data to be appended to the file, followed by a new line.
+     *
+     * @param data the data to be saved
+     * @throws IllegalStateException if this handler has been closed
+     */
+    @Override
+    public void save(String data) {
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (switching) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (closed) {
+                throw new IllegalStateException("Achievement file closed");
+            }
+            pending.add(data);
+            queued++;
+            if (pending.size() == 1 || pending.size() >= MAX_BATCH) {
+                lock.notifyAll(); // Start the flush interval, or commit a full batch now
+            }
+        }
+    }
+
+    /**
+     * Loads and returns all previously saved data, including any saves still queued.
+     * If interrupted while waiting for queued saves, or if they could not be written, prints an error and
+     * returns what has been written.
+     *
+     * @return a list of saved data entries
+     */
+    @Override
+    public List<String> read() {
+        flushOrPrintError();
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(getFileLocation()), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            System.out.println("Error");
+        }
+        return lines;
+    }
+
+    /**
+     * Returns all previously saved data as a stream, including any saves still queued when it is called.
+     * Each line is only read as the stream is consumed, and the stream holds the file open until it is closed.
+     * If interrupted while waiting for queued saves, or if they could not be written, prints an error and
+     * streams what has been written.
+     *
+     * @return a stream of saved data entries
+     */
+    @Override
+    public Stream<String> stream() {
+        flushOrPrintError();
+        try {
+            return Files.lines(Path.of(getFileLocation()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.out.println("Error");
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Waits until every save queued before this call has been written, without waiting for the flush interval.
+     * If the calling thread is interrupted, stops waiting and leaves its interrupt status set.
+     *
+     * @return true if every earlier save has been written, false if interrupted first.
+     * @throws UncheckedIOException if a write has failed since the last error was reported.
+     *         The saves that failed stay queued and are retried.
+     */
+    public boolean flush() {
+        return awaitWritten(true);
+    }
+
+    private void flushOrPrintError() {
+        try {
+            if (!flush()) {
+                System.out.println("Error");
+            }
+        } catch (UncheckedIOException e) {
+            System.out.println("Error");
+        }
+    }
+
+    /**
+     * Returns the number of saves queued but not yet written.
+     *
+     * @return the number of pending saves.
+     */
+    public long getPending() {
+        synchronized (lock) {
+            return queued - written;
+        }
+    }
+
+    /**
+     * Writes every queued save, stops the writer thread and closes the file.
+     * Saving after closing throws IllegalStateException.
+     *
+     * @throws UncheckedIOException if queued saves could not be written, or an earlier failure was not reported.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            closeChannel();
+        }
+        synchronized (lock) {
+            reportFailure();
+        }
+    }
+
+    /**
+     * Waits until every save queued before this call has been written.
+     *
+     * @param interruptible true to stop waiting when interrupted, false to keep waiting.
+     * @return false if the calling thread was interrupted, with its interrupt status set.
+     * @throws UncheckedIOException if a write has failed since the last error was reported.
+     */
+    private boolean awaitWritten(boolean interruptible) {
+        boolean interrupted = false;
+        try {
+            synchronized (lock) {
+                long target = queued;
+                if (written < target) {
+                    flushRequested = true;
+                    lock.notifyAll();
+                }
+                while (written < target && writer.isAlive()) {
+                    reportFailure();
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        if (interruptible) {
+                            break;
+                        }
+                    }
+                }
+                reportFailure();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return !interrupted;
+    }
+
+    /**
+     * Throws the last failed write, if it has not been reported yet. Must be called holding lock.
+     */
+    private void reportFailure() {
+        if (failure != null) {
+            IOException e = failure;
+            failure = null;
+            throw new UncheckedIOException("Could not write achievement file", e);
+        }
+    }
+
+    private void writeLoop() {
+        StringBuilder batch = new StringBuilder();
+        boolean failed = false;
+        while (true) {
+            int count;
+            synchronized (lock) {
+                try {
+                    while (pending.isEmpty() && !closed) {
+                        lock.wait();
+                    }
+                    if (pending.isEmpty()) {
+                        return; // Closed with nothing left to write
+                    }
+                    // Give later saves until the end of the interval to join this group,
+                    // and back off before retrying a group that could not be written
+                    long interval = failed ? Math.max(flushIntervalNanos, RETRY_NANOS) : flushIntervalNanos;
+                    long deadline = System.nanoTime() + interval;
+                    long remaining = interval;
+                    while (!closed && !flushRequested && (failed || pending.size() < MAX_BATCH) && remaining > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                        remaining = deadline - System.nanoTime();
+                    }
+                } catch (InterruptedException e) {
+                    // Stop waiting and commit what is queued
+                }
+                flushRequested = false;
+                count = pending.size();
+                batch.setLength(0);
+                for (String data : pending) {
+                    batch.append(data).append(System.lineSeparator());
+                }
+            }
+
+            IOException error = write(batch);
+
+            synchronized (lock) {
+                failed = error != null;
+                if (failed) {
+                    failure = error; // The group stays queued, to be retried
+                    if (closed) {
+                        lock.notifyAll();
+                        return; // Give up, close() reports the failure
+                    }
+                } else {
+                    for (int i = 0; i < count; i++) {
+                        pending.poll();
+                    }
+                    written += count;
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Appends the given group of saves to the file. If it cannot be written completely, any part that was
+     * written is removed again, so that it can be retried.
+     *
+     * @param batch the text to append.
+     * @return the error the write failed with, or null if it succeeded.
+     */
+    private synchronized IOException write(CharSequence batch) {
+        long start = -1;
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(Path.of(fileLocation), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            start = channel.size();
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(batch.toString());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (syncPolicy == SyncPolicy.EVERY_BATCH) {
+                channel.force(false);
+            }
+            return null;
+        } catch (IOException e) {
+            if (start >= 0) {
+                try {
+                    channel.truncate(start);
+                } catch (IOException truncateFailure) {
+                    e.addSuppressed(truncateFailure);
+                }
+            }
+            return e;
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.out.println("Error");
+        }
+        channel = null;
+    }
+}
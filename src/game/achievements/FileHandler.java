@@ -4,8 +4,12 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * The FileHandler class is an implementation of the AchievementFile interface. It handles file operations
@@ -78,4 +82,20 @@ public class FileHandler implements AchievementFile {
         // Return the list of lines read from the file
         return lines;
     }
+
+    /**
+     * Returns all previously saved data from the current file location as a stream, reading each line
+     * only as the stream is consumed. The stream holds the file open until it is closed.
+     *
+     * @return a stream of saved data entries
+     */
+    @Override
+    public Stream<String> stream() {
+        try {
+            return Files.lines(Path.of(this.fileLocation), Charset.defaultCharset());
+        } catch (IOException e) {
+            System.out.println("Error");
+            return Stream.empty();
+        }
+    }
 }
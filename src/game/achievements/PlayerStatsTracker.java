@@ -1,14 +1,42 @@
 package game.achievements;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Tracks the statistics of a player's shots, including the number of shots fired,
  * the number of successful hits, and calculates shooting accuracy.
  * It also tracks the elapsed time since the tracker was initialized.
+ * <p>
+ * Listeners are told whenever a shot is recorded, so anything derived from these statistics,
+ * such as achievement progress, only needs to be worked out again when they change.
  */
 public class PlayerStatsTracker {
+    /**
+     * Receives a notification each time a shot is recorded, after the statistics are updated.
+     */
+    public interface Listener {
+        /**
+         * Called after a shot fired is recorded.
+         *
+         * @param stats the tracker that recorded the shot.
+         */
+        default void onShotFired(PlayerStatsTracker stats) {
+        }
+
+        /**
+         * Called after a shot hit is recorded.
+         *
+         * @param stats the tracker that recorded the hit.
+         */
+        default void onShotHit(PlayerStatsTracker stats) {
+        }
+    }
+
     private final long startingTime;
     private int shotFired = 0;
     private int shotHit = 0;
+    private final List<Listener> listeners = new ArrayList<>();
 
     /**
      * Constructs a PlayerStatsTracker with a custom start time.
@@ -31,6 +59,9 @@ public class PlayerStatsTracker {
      */
     public void recordShotFired() {
         this.shotFired++;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onShotFired(this);
+        }
     }
 
     /**
@@ -38,6 +69,27 @@ public class PlayerStatsTracker {
      */
     public void recordShotHit() {
         this.shotHit++;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onShotHit(this);
+        }
+    }
+
+    /**
+     * Adds a listener to be notified each time a shot is recorded.
+     *
+     * @param listener the listener to add.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with addListener, if it was added.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
     }
 
     /**
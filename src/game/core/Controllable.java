@@ -36,6 +36,20 @@ public abstract class Controllable extends ObjectWithPosition {
      * @hint game dimensions are stored in the model.
      */
     public void move(Direction direction) throws BoundaryExceededException {
+        move(direction, GAME_WIDTH, GAME_HEIGHT);
+    }
+
+    /**
+     * Moves the Controllable by one in the direction given, within a game area of the given size.<br>
+     * Behaves the same as move(direction), with width and height used in place of GAME_WIDTH and GAME_HEIGHT.
+     *
+     * @param direction the given direction.
+     * @param width the width of the game area.
+     * @param height the height of the game area.
+     *
+     * @throws BoundaryExceededException if attempting to move outside the game boundaries.
+     */
+    public void move(Direction direction, int width, int height) throws BoundaryExceededException {
         switch (direction) {
             case UP -> {
                 // Check if moving up goes out of bounds
@@ -47,7 +61,7 @@ public abstract class Controllable extends ObjectWithPosition {
             }
             case DOWN -> {
                 // Check if moving down goes out of bounds
-                if (y + 1 >= GAME_HEIGHT) {
+                if (y + 1 >= height) {
                     throw new BoundaryExceededException("Cannot move down. Out of bounds!");
                 }
                 // Move down
@@ -63,7 +77,7 @@ public abstract class Controllable extends ObjectWithPosition {
             }
             case RIGHT -> {
                 // Check if moving right goes out of bounds
-                if (x + 1 >= GAME_WIDTH) {
+                if (x + 1 >= width) {
                     throw new BoundaryExceededException("Cannot move right. Out of bounds!");
                 }
                 // Move right
@@ -4,6 +4,10 @@ package game.core;
  * Represents a movable and interactive object in the space game that moves downwards.
  */
 public abstract class DescendingEnemy extends ObjectWithPosition {
+    /**
+     * The number of ticks between each downward move of descending objects.
+     */
+    public static final int DESCENT_INTERVAL = 10;
 
     /**
      * Creates a movable and interactive object at the given coordinates that moves downwards.
@@ -16,13 +20,13 @@ public abstract class DescendingEnemy extends ObjectWithPosition {
     }
 
     /**
-     * Moves the DescendingEnemy downwards by one if the given tick is a multiple of 10.
+     * Moves the DescendingEnemy downwards by one if the given tick is a multiple of DESCENT_INTERVAL (10).
      *
      * @param tick the given game tick.
      */
     @Override
     public void tick(int tick) {
-        if (tick % 10 == 0) {
+        if (tick % DESCENT_INTERVAL == 0) {
             y++; // Move downward
         }
     }
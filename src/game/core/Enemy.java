@@ -6,6 +6,7 @@ import game.ui.ObjectGraphic;
  * Represents an enemy UFO in the game.
  */
 public class Enemy extends DescendingEnemy {
+    private static final ObjectGraphic GRAPHIC = new ObjectGraphic("👾", "assets/enemy.png"); // Emoji representation for the enemy
 
     /**
      * Creates an enemy at the given coordinate.
@@ -18,15 +19,16 @@ public class Enemy extends DescendingEnemy {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the ObjectGraphic with the appropriate text representation and image path.<br>
+     * The same immutable instance is shared by every Enemy, so rendering does not allocate.<br>
      * <p>
      * The text representation is "👾".<br>
      * The image path is "assets/enemy.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate shared ObjectGraphic.
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("👾", "assets/enemy.png"); // Emoji representation for the enemy
+        return GRAPHIC;
     }
 }
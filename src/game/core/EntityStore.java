@@ -0,0 +1,344 @@
+package game.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores space objects as parallel primitive arrays instead of individual SpaceObject instances.
+ * <p>
+ * The position and type tag of the entity in slot i are xs[i], ys[i] and types[i].
+ * Movement, bounds culling and collision detection are linear sweeps over these arrays,
+ * with no pointer chasing or instanceof checks. SpaceObject views are only created on request
+ * (see view(int) and toSpaceObjects()), and are copies: changing a view does not change the store.
+ * <p>
+ * Entities keep the order they were added in, matching the order of GameModel's object list.
+ * A count of entities per cell is maintained as entities are added, moved and removed,
+ * so occupancy checks are a single array lookup regardless of the size of the game area.
+ */
+public class EntityStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int BULLET = EntityType.BULLET.ordinal();
+    private static final int ASTEROID = EntityType.ASTEROID.ordinal();
+    private static final int ENEMY = EntityType.ENEMY.ordinal();
+    private static final int SHIP = EntityType.SHIP.ordinal();
+
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int[] types = new int[INITIAL_CAPACITY];
+    private boolean[] removed = new boolean[INITIAL_CAPACITY];
+    private int size;
+    private int removedCount;
+
+    private final int width;
+    private final int height;
+    // Slot of the first asteroid or enemy in each cell during a collision check, -1 otherwise
+    private final int[] firstTarget;
+    // Number of entities in each cell inside the game area
+    private final int[] occupancy;
+
+    /**
+     * Receives the outcome of EntityStore.checkCollisions().
+     */
+    public interface CollisionHandler {
+        /**
+         * Called for each entity that collided with the ship, before it is removed.
+         *
+         * @param index the slot of the colliding entity.
+         */
+        void onShipCollision(int index);
+
+        /**
+         * Called each time a bullet hits an enemy, before the enemy is removed.
+         *
+         * @param index the slot of the enemy.
+         */
+        void onEnemyShot(int index);
+
+        /**
+         * Called each time a bullet is stopped by an asteroid. Does nothing by default.
+         *
+         * @param index the slot of the asteroid.
+         */
+        default void onAsteroidShot(int index) {
+        }
+    }
+
+    /**
+     * Creates an empty store for a game area of the given size.
+     *
+     * @param width the width of the game area.
+     * @param height the height of the game area.
+     * @requires width &gt; 0, height &gt; 0
+     */
+    public EntityStore(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.firstTarget = new int[width * height];
+        Arrays.fill(firstTarget, -1);
+        this.occupancy = new int[width * height];
+    }
+
+    /**
+     * Adds an entity of the given type at the given coordinates.
+     *
+     * @param type the type of the entity.
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     */
+    public void add(EntityType type, int x, int y) {
+        if (size == xs.length) {
+            int capacity = size * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            types = Arrays.copyOf(types, capacity);
+            removed = Arrays.copyOf(removed, capacity);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        types[size] = type.ordinal();
+        size++;
+        occupy(x, y, 1);
+    }
+
+    /**
+     * Adds an entity matching the type and position of the given SpaceObject.
+     *
+     * @param object the object to copy.
+     * @throws IllegalArgumentException if the object is not one of the known SpaceObject classes.
+     */
+    public void add(SpaceObject object) {
+        add(EntityType.of(object), object.getX(), object.getY());
+    }
+
+    /**
+     * Returns the number of stored entities.
+     *
+     * @return the number of entities.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the x coordinate of the entity in the given slot.
+     *
+     * @param index the slot.
+     * @return the x coordinate.
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the y coordinate of the entity in the given slot.
+     *
+     * @param index the slot.
+     * @return the y coordinate.
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Returns the type of the entity in the given slot.
+     *
+     * @param index the slot.
+     * @return the type.
+     */
+    public EntityType getType(int index) {
+        return EntityType.fromTag(types[index]);
+    }
+
+    /**
+     * Moves every entity as its SpaceObject counterpart's tick(tick) method would.
+     * <p>
+     * Bullets move up by one every tick. Asteroids, enemies and power-ups move down by one
+     * if the tick is a multiple of 10. Ships do not move.
+     *
+     * @param tick the given game tick.
+     */
+    public void tick(int tick) {
+        boolean descend = tick % DescendingEnemy.DESCENT_INTERVAL == 0;
+        for (int i = 0; i < size; i++) {
+            int type = types[i];
+            if (type == BULLET) {
+                occupy(xs[i], ys[i], -1);
+                ys[i]--;
+                occupy(xs[i], ys[i], 1);
+            } else if (descend && type != SHIP) {
+                occupy(xs[i], ys[i], -1);
+                ys[i]++;
+                occupy(xs[i], ys[i], 1);
+            }
+        }
+    }
+
+    /**
+     * Removes every entity that is outside the game area.
+     */
+    public void removeOutOfBounds() {
+        for (int i = 0; i < size; i++) {
+            if (!isInBounds(xs[i], ys[i])) {
+                markRemoved(i);
+            }
+        }
+        compact();
+    }
+
+    /**
+     * Returns true if any entity is located at (x, y).
+     *
+     * @param x the x-coordinate to check.
+     * @param y the y-coordinate to check.
+     * @return true if the position is occupied, false otherwise.
+     */
+    public boolean isOccupied(int x, int y) {
+        if (isInBounds(x, y)) {
+            return occupancy[y * width + x] > 0;
+        }
+        for (int i = 0; i < size; i++) {
+            if (xs[i] == x && ys[i] == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Detects and removes colliding entities, following the same rules as GameModel.checkCollisions().
+     * <p>
+     * Every entity other than bullets and ships at the ship's position is reported to the handler and removed.
+     * Each bullet then collides with the first asteroid or enemy sharing its position, if any.
+     * Hitting an enemy removes both and is reported to the handler, hitting an asteroid removes only the bullet.
+     *
+     * @param shipX the x coordinate of the ship.
+     * @param shipY the y coordinate of the ship.
+     * @param handler the handler notified of collisions.
+     */
+    public void checkCollisions(int shipX, int shipY, CollisionHandler handler) {
+        for (int i = 0; i < size; i++) {
+            int type = types[i];
+            int x = xs[i];
+            int y = ys[i];
+            if (x == shipX && y == shipY && type != BULLET && type != SHIP) {
+                handler.onShipCollision(i);
+                markRemoved(i);
+            }
+            if ((type == ASTEROID || type == ENEMY) && isInBounds(x, y)
+                    && firstTarget[y * width + x] < 0) {
+                firstTarget[y * width + x] = i;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (types[i] != BULLET) {
+                continue;
+            }
+            int target = findTarget(xs[i], ys[i]);
+            if (target < 0) {
+                continue;
+            }
+            markRemoved(i);
+            if (types[target] == ENEMY) {
+                handler.onEnemyShot(target);
+                markRemoved(target);
+            } else {
+                handler.onAsteroidShot(target);
+            }
+        }
+
+        // Reset only the cells that were filled in, rather than the whole table
+        for (int i = 0; i < size; i++) {
+            if ((types[i] == ASTEROID || types[i] == ENEMY) && isInBounds(xs[i], ys[i])) {
+                firstTarget[ys[i] * width + xs[i]] = -1;
+            }
+        }
+        compact();
+    }
+
+    /**
+     * Creates a new SpaceObject matching the entity in the given slot.
+     *
+     * @param index the slot.
+     * @return a new SpaceObject copy of the entity.
+     */
+    public SpaceObject view(int index) {
+        return getType(index).create(xs[index], ys[index]);
+    }
+
+    /**
+     * Creates new SpaceObjects matching every stored entity, in order.
+     *
+     * @return a new list of SpaceObject copies.
+     */
+    public List<SpaceObject> toSpaceObjects() {
+        List<SpaceObject> objects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            objects.add(view(i));
+        }
+        return objects;
+    }
+
+    /**
+     * Removes every entity from the store.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            occupy(xs[i], ys[i], -1);
+        }
+        Arrays.fill(removed, 0, size, false);
+        size = 0;
+        removedCount = 0;
+    }
+
+    private int findTarget(int x, int y) {
+        if (isInBounds(x, y)) {
+            return firstTarget[y * width + x];
+        }
+        // Positions outside the game area are not indexed, fall back to a sweep
+        for (int i = 0; i < size; i++) {
+            if ((types[i] == ASTEROID || types[i] == ENEMY) && xs[i] == x && ys[i] == y) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    private void occupy(int x, int y, int change) {
+        if (isInBounds(x, y)) {
+            occupancy[y * width + x] += change;
+        }
+    }
+
+    private void markRemoved(int index) {
+        if (!removed[index]) {
+            removed[index] = true;
+            removedCount++;
+        }
+    }
+
+    private void compact() {
+        if (removedCount == 0) {
+            return;
+        }
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (removed[read]) {
+                removed[read] = false;
+                occupy(xs[read], ys[read], -1);
+                continue;
+            }
+            xs[write] = xs[read];
+            ys[write] = ys[read];
+            types[write] = types[read];
+            write++;
+        }
+        size = write;
+        removedCount = 0;
+    }
+}
@@ -0,0 +1,91 @@
+package game.core;
+
+/**
+ * The kinds of SpaceObject that can be stored in an EntityStore.
+ * <p>
+ * The ordinal of each constant is used as the type tag in the store's arrays.
+ */
+public enum EntityType {
+    BULLET,
+    ASTEROID,
+    ENEMY,
+    HEALTH_POWER_UP,
+    SHIELD_POWER_UP,
+    SHIP;
+
+    private static final EntityType[] VALUES = values();
+
+    /**
+     * Returns the type matching the given tag.
+     *
+     * @param tag the tag, as returned by ordinal().
+     * @return the matching type.
+     */
+    public static EntityType fromTag(int tag) {
+        return VALUES[tag];
+    }
+
+    /**
+     * Returns the type of the given SpaceObject.
+     *
+     * @param object the object to classify.
+     * @return the matching type.
+     * @throws IllegalArgumentException if the object is not one of the known SpaceObject classes.
+     */
+    public static EntityType of(SpaceObject object) {
+        if (object instanceof Bullet) {
+            return BULLET;
+        } else if (object instanceof Asteroid) {
+            return ASTEROID;
+        } else if (object instanceof Enemy) {
+            return ENEMY;
+        } else if (object instanceof HealthPowerUp) {
+            return HEALTH_POWER_UP;
+        } else if (object instanceof ShieldPowerUp) {
+            return SHIELD_POWER_UP;
+        } else if (object instanceof Ship) {
+            return SHIP;
+        }
+        throw new IllegalArgumentException("Unknown SpaceObject: " + object);
+    }
+
+    /**
+     * Creates a new SpaceObject of this type at the given coordinates.
+     * Ships are created with full health.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the new SpaceObject.
+     */
+    public SpaceObject create(int x, int y) {
+        return switch (this) {
+            case BULLET -> new Bullet(x, y);
+            case ASTEROID -> new Asteroid(x, y);
+            case ENEMY -> new Enemy(x, y);
+            case HEALTH_POWER_UP -> new HealthPowerUp(x, y);
+            case SHIELD_POWER_UP -> new ShieldPowerUp(x, y);
+            case SHIP -> new Ship(x, y, 100);
+        };
+    }
+
+    /**
+     * Returns where an object of this type appears to be along its path, for drawing between ticks.
+     * <p>
+     * Bullets move up by one every tick. Descending objects move down by one every DESCENT_INTERVAL ticks,
+     * and are placed the matching fraction of the way to their next position, so they glide rather than jump.
+     * Ships only move on input, and are not interpolated.
+     *
+     * @param y the y-coordinate after the last tick.
+     * @param tick the value passed to the last tick.
+     * @param alpha the fraction of a tick that has passed since the last tick, from 0.0 up to 1.0.
+     * @return the y-coordinate to draw the object at.
+     */
+    public double interpolateY(int y, int tick, double alpha) {
+        return switch (this) {
+            case BULLET -> y - alpha;
+            case SHIP -> y;
+            default -> y + (Math.floorMod(tick, DescendingEnemy.DESCENT_INTERVAL) + alpha)
+                    / DescendingEnemy.DESCENT_INTERVAL;
+        };
+    }
+}
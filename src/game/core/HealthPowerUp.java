@@ -6,6 +6,7 @@ import game.ui.ObjectGraphic;
  * Represents a health power-up in the game.
  */
 public class HealthPowerUp extends PowerUp {
+    private static final ObjectGraphic GRAPHIC = new ObjectGraphic("❤️", "assets/health.png");
 
     /**
      * Creates a health power-up at the given coordinates
@@ -17,16 +18,17 @@ public class HealthPowerUp extends PowerUp {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the ObjectGraphic with the appropriate text representation and image path.<br>
+     * The same immutable instance is shared by every HealthPowerUp, so rendering does not allocate.<br>
      * <p>
      * The text representation is "❤️".<br>
      * The image path is "assets/health.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate shared ObjectGraphic.
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("❤️", "assets/health.png");
+        return GRAPHIC;
     }
 
     /**
@@ -12,6 +12,14 @@ public abstract class ObjectWithPosition implements SpaceObject {
      * The y coordinate of the Object
      */
     protected int y;
+    /**
+     * True if this object was created by a SpaceObjectPool and may be recycled by it
+     */
+    boolean pooled;
+    /**
+     * True while this object is sitting unused in a SpaceObjectPool
+     */
+    boolean free;
 
     /**
      * Creates a movable and interactive object at the given coordinates.
@@ -25,6 +33,17 @@ public abstract class ObjectWithPosition implements SpaceObject {
     }
 
 
+    /**
+     * Moves this object to the given coordinates, used when reusing a pooled object.
+     *
+     * @param x the new x coordinate
+     * @param y the new y coordinate
+     */
+    void setPosition(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
     /**
      * Returns the x-coordinate of this object.
      *
@@ -6,6 +6,7 @@ import game.ui.ObjectGraphic;
  * Represents a shield power-up in the game.
  */
 public class ShieldPowerUp extends PowerUp {
+    private static final ObjectGraphic GRAPHIC = new ObjectGraphic("💠", "assets/shield.png"); // Emoji representation for the shield
 
     /**
      * Creates a new ShieldPowerUp with the given coordinates.
@@ -17,16 +18,17 @@ public class ShieldPowerUp extends PowerUp {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the ObjectGraphic with the appropriate text representation and image path.<br>
+     * The same immutable instance is shared by every ShieldPowerUp, so rendering does not allocate.<br>
      * <p>
      * The text representation is "💠".<br>
      * The image path is "assets/shield.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate shared ObjectGraphic.
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("💠", "assets/shield.png"); // Emoji representation for the shield
+        return GRAPHIC;
     }
 
     /**
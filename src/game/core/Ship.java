@@ -6,6 +6,7 @@ import game.ui.ObjectGraphic;
  * Represents the player's ship.
  */
 public class Ship extends Controllable {
+    private static final ObjectGraphic GRAPHIC = new ObjectGraphic("🚀", "assets/ship.png"); // Emoji representation for the ship
     private static final int STARTING_HEALTH = 100;
     private static final int STARTING_SCORE = 0;
     private static final int STARTING_X = 5;
@@ -39,16 +40,17 @@ public class Ship extends Controllable {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the ObjectGraphic with the appropriate text representation and image path.<br>
+     * The same immutable instance is shared by every Ship, so rendering does not allocate.<br>
      * <p>
      * The text representation is "🚀".<br>
      * The image path is "assets/ship.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate shared ObjectGraphic.
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("🚀", "assets/ship.png"); // Emoji representation for the ship
+        return GRAPHIC;
     }
 
     /**
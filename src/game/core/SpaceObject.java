@@ -9,9 +9,10 @@ import game.ui.Tickable;
 public interface SpaceObject extends Tickable {
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.
+     * Returns the ObjectGraphic with the appropriate text representation and image path.
+     * Implementations may return the same immutable instance every time, so it must not be modified.
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate ObjectGraphic.
      */
     ObjectGraphic render();
 
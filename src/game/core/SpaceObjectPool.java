@@ -0,0 +1,118 @@
+package game.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recycles Bullet, Asteroid, Enemy and PowerUp instances so that spawning does not allocate.
+ * <p>
+ * Objects handed out by acquire() can be given back with release() once they are no longer in the game,
+ * and are then reused by a later acquire() of the same type. Only objects created by this pool are kept:
+ * releasing any other object has no effect, so objects created elsewhere are never changed by the pool.
+ * <p>
+ * A released object must not be used by anything else, since it may be moved and handed out again.
+ */
+public class SpaceObjectPool {
+    /**
+     * The default number of free objects kept per type.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final List<List<ObjectWithPosition>> free = new ArrayList<>();
+    private final int capacity;
+    private int size;
+    private long created;
+    private long reused;
+
+    /**
+     * Creates an empty pool that keeps up to the given number of free objects of each type.
+     *
+     * @param capacity the maximum number of free objects kept per type.
+     */
+    public SpaceObjectPool(int capacity) {
+        this.capacity = capacity;
+        for (int i = 0; i < EntityType.values().length; i++) {
+            free.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Creates an empty pool that keeps up to DEFAULT_CAPACITY free objects of each type.
+     */
+    public SpaceObjectPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns an object of the given type at the given coordinates, reusing a free object if there is one.
+     * Ships are never pooled, and are always created new.
+     *
+     * @param type the type of object.
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return an object of the given type at (x, y).
+     */
+    public SpaceObject acquire(EntityType type, int x, int y) {
+        List<ObjectWithPosition> objects = free.get(type.ordinal());
+        if (!objects.isEmpty()) {
+            ObjectWithPosition object = objects.remove(objects.size() - 1);
+            object.free = false;
+            object.setPosition(x, y);
+            size--;
+            reused++;
+            return object;
+        }
+        SpaceObject object = type.create(x, y);
+        if (type != EntityType.SHIP) {
+            ((ObjectWithPosition) object).pooled = true;
+        }
+        created++;
+        return object;
+    }
+
+    /**
+     * Gives an object back to the pool once it has left the game.
+     * Objects not created by this pool, objects already released, and objects beyond the pool's capacity are ignored.
+     *
+     * @param object the object to release.
+     */
+    public void release(SpaceObject object) {
+        if (!(object instanceof ObjectWithPosition pooledObject) || !pooledObject.pooled || pooledObject.free) {
+            return;
+        }
+        List<ObjectWithPosition> objects = free.get(EntityType.of(object).ordinal());
+        if (objects.size() >= capacity) {
+            return; // Let the garbage collector have it
+        }
+        pooledObject.free = true;
+        objects.add(pooledObject);
+        size++;
+    }
+
+    /**
+     * Returns the number of free objects currently held by the pool.
+     *
+     * @return the number of free objects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of objects this pool has created because no free object was available.
+     *
+     * @return the number of objects created.
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * Returns the number of times a free object was reused instead of creating a new one.
+     *
+     * @return the number of objects reused.
+     */
+    public long getReused() {
+        return reused;
+    }
+}
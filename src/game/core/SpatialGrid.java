@@ -0,0 +1,256 @@
+package game.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A uniform grid that buckets SpaceObjects by the cell they occupy.
+ * <p>
+ * Occupancy and collision queries only need to look at the bucket for a single cell instead of
+ * every tracked object. Objects within a bucket are kept in the order they were added to the grid,
+ * so iterating a bucket visits objects in the same relative order as the model's object list.
+ * Objects outside the grid area are kept in a separate overflow bucket.
+ * <p>
+ * Buckets are kept in an array per row. A row is only allocated once an object enters it, and a bucket
+ * once an object enters its cell, so creating a grid only costs an array of rows however wide it is,
+ * and every lookup is two array accesses regardless of the size of the grid.
+ */
+public class SpatialGrid {
+    private final int width;
+    private final int height;
+    private final List<SpaceObject>[][] rows; // Bucket per cell, each row and bucket null until first occupied
+    private final List<SpaceObject> outside = new ArrayList<>();
+    private final Map<SpaceObject, Slot> slots = new IdentityHashMap<>();
+    private long nextOrder;
+
+    /**
+     * The bookkeeping stored for each indexed object.
+     */
+    private static class Slot {
+        private final long order; // Insertion order, used to keep buckets sorted
+        private int cell; // The cell the object was last indexed in, -1 if outside
+
+        private Slot(long order, int cell) {
+            this.order = order;
+            this.cell = cell;
+        }
+    }
+
+    /**
+     * Creates an empty grid covering the area 0 &lt;= x &lt; width and 0 &lt;= y &lt; height.
+     *
+     * @param width the width of the grid.
+     * @param height the height of the grid.
+     * @requires width &gt; 0, height &gt; 0
+     */
+    @SuppressWarnings("unchecked")
+    public SpatialGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.rows = (List<SpaceObject>[][]) new List<?>[height][];
+    }
+
+    /**
+     * Adds the given object to the grid at its current position.
+     * Adding an object that is already indexed has no effect.
+     *
+     * @param object the object to add.
+     * @requires object != null
+     */
+    public void add(SpaceObject object) {
+        if (slots.containsKey(object)) {
+            return;
+        }
+        int cell = cellOf(object.getX(), object.getY());
+        Slot slot = new Slot(nextOrder++, cell);
+        slots.put(object, slot);
+        insert(bucketFor(cell), object, slot);
+    }
+
+    /**
+     * Removes the given object from the grid. Removing an object that is not indexed has no effect.
+     *
+     * @param object the object to remove.
+     */
+    public void remove(SpaceObject object) {
+        Slot slot = slots.remove(object);
+        if (slot != null) {
+            removeIdentity(bucket(slot.cell), object);
+        }
+    }
+
+    /**
+     * Moves the given object to the bucket matching its current position.
+     * Should be called whenever an indexed object may have moved.
+     *
+     * @param object the object to re-index.
+     */
+    public void update(SpaceObject object) {
+        Slot slot = slots.get(object);
+        if (slot == null) {
+            return;
+        }
+        int cell = cellOf(object.getX(), object.getY());
+        if (cell == slot.cell) {
+            return; // Still in the same cell, nothing to do
+        }
+        removeIdentity(bucket(slot.cell), object);
+        slot.cell = cell;
+        insert(bucketFor(cell), object, slot);
+    }
+
+    /**
+     * Returns every indexed object located at exactly (x, y), in the order they were added.
+     * <p>
+     * For positions inside the grid the returned list is the live bucket and must not be modified.
+     *
+     * @param x the x-coordinate to look up.
+     * @param y the y-coordinate to look up.
+     * @return the objects at the given position.
+     */
+    public List<SpaceObject> objectsAt(int x, int y) {
+        int cell = cellOf(x, y);
+        if (cell >= 0) {
+            List<SpaceObject> bucket = existing(cell);
+            return bucket != null ? bucket : Collections.emptyList();
+        }
+        List<SpaceObject> found = new ArrayList<>();
+        for (SpaceObject object : outside) {
+            if (object.getX() == x && object.getY() == y) {
+                found.add(object);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns true if any indexed object is located at (x, y).
+     *
+     * @param x the x-coordinate to check.
+     * @param y the y-coordinate to check.
+     * @return true if the position is occupied, false otherwise.
+     */
+    public boolean isOccupied(int x, int y) {
+        int cell = cellOf(x, y);
+        if (cell >= 0) {
+            List<SpaceObject> bucket = existing(cell);
+            return bucket != null && !bucket.isEmpty();
+        }
+        for (SpaceObject object : outside) {
+            if (object.getX() == x && object.getY() == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the x-coordinate of the cell the given object is currently indexed in.
+     * <p>
+     * This only reads the grid, so several threads may call it at once, as long as no objects are being
+     * added or removed and no other thread is re-indexing the same object.
+     *
+     * @param object the object to look up.
+     * @return the indexed x-coordinate, or -1 if the object is indexed outside the grid or not indexed at all.
+     */
+    public int indexedX(SpaceObject object) {
+        Slot slot = slots.get(object);
+        return slot == null || slot.cell < 0 ? -1 : slot.cell % width;
+    }
+
+    /**
+     * Returns true if the given row has been allocated, so objects can be moved into it without changing
+     * the array of rows.
+     * <p>
+     * Threads re-indexing objects in separate columns at the same time may only move objects into rows that
+     * are already allocated, since allocating a row is shared by every column.
+     *
+     * @param y the row to check.
+     * @return true if the row exists, false if it has never been occupied or is outside the grid.
+     */
+    public boolean hasRow(int y) {
+        return y >= 0 && y < height && rows[y] != null;
+    }
+
+    /**
+     * Returns the number of objects currently indexed.
+     *
+     * @return the number of indexed objects.
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Removes every object from the grid.
+     */
+    public void clear() {
+        for (List<SpaceObject>[] row : rows) {
+            if (row == null) {
+                continue;
+            }
+            for (List<SpaceObject> bucket : row) {
+                if (bucket != null) {
+                    bucket.clear();
+                }
+            }
+        }
+        outside.clear();
+        slots.clear();
+    }
+
+    private int cellOf(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return y * width + x;
+    }
+
+    private List<SpaceObject> existing(int cell) {
+        List<SpaceObject>[] row = rows[cell / width];
+        return row != null ? row[cell % width] : null;
+    }
+
+    private List<SpaceObject> bucket(int cell) {
+        return cell >= 0 ? existing(cell) : outside;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SpaceObject> bucketFor(int cell) {
+        if (cell < 0) {
+            return outside;
+        }
+        List<SpaceObject>[] row = rows[cell / width];
+        if (row == null) {
+            row = (List<SpaceObject>[]) new List<?>[width];
+            rows[cell / width] = row;
+        }
+        List<SpaceObject> bucket = row[cell % width];
+        if (bucket == null) {
+            bucket = new ArrayList<>(2);
+            row[cell % width] = bucket;
+        }
+        return bucket;
+    }
+
+    private void insert(List<SpaceObject> bucket, SpaceObject object, Slot slot) {
+        // Buckets are tiny, so a linear search for the insertion point is cheapest
+        int index = bucket.size();
+        while (index > 0 && slots.get(bucket.get(index - 1)).order > slot.order) {
+            index--;
+        }
+        bucket.add(index, object);
+    }
+
+    private static void removeIdentity(List<SpaceObject> bucket, SpaceObject object) {
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == object) {
+                bucket.remove(i);
+                return;
+            }
+        }
+    }
+}
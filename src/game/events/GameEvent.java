@@ -0,0 +1,86 @@
+package game.events;
+
+import game.core.EntityType;
+
+/**
+ * Something that happened in the game, as passed to GameEventListeners.
+ * <p>
+ * Events are reused by the GameEventBus between publishes, so a listener must copy out any values it needs
+ * rather than keep the event.
+ */
+public final class GameEvent {
+    private GameEventType type;
+    private EntityType subject;
+    private int x;
+    private int y;
+    private int value;
+
+    /**
+     * Creates an empty event, filled in by GameEventBus before each publish.
+     */
+    GameEvent() {
+    }
+
+    void set(GameEventType type, EntityType subject, int x, int y, int value) {
+        this.type = type;
+        this.subject = subject;
+        this.x = x;
+        this.y = y;
+        this.value = value;
+    }
+
+    /**
+     * Returns the kind of event.
+     *
+     * @return the event type.
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the type of object the event is about.
+     *
+     * @return the subject's type, or null if the event is not about an object.
+     */
+    public EntityType getSubject() {
+        return subject;
+    }
+
+    /**
+     * Returns the x-coordinate where the event happened.
+     *
+     * @return the x-coordinate, or 0 if the event has no position.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y-coordinate where the event happened.
+     *
+     * @return the y-coordinate, or 0 if the event has no position.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the event's value, as described by its GameEventType.
+     *
+     * @return the value, or 0 if the event type has none.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns a string representation of this event.
+     *
+     * @return a string in the format TYPE(subject, x, y, value)
+     */
+    @Override
+    public String toString() {
+        return type + "(" + subject + ", " + x + ", " + y + ", " + value + ")";
+    }
+}
@@ -0,0 +1,125 @@
+package game.events;
+
+import game.core.EntityType;
+
+import java.util.Arrays;
+
+/**
+ * Passes typed game events to the listeners subscribed to them.
+ * <p>
+ * Listeners are kept in an array per event type, so publishing an event nobody listens to is a single
+ * array length check, and publishing allocates nothing: the same GameEvent is filled in and passed to
+ * every listener. An event published by a listener while another is being delivered gets its own object.
+ * Subscribing copies the listener array, so listeners may subscribe and unsubscribe while events are
+ * being delivered.
+ * <p>
+ * A bus is not thread-safe, and is meant to be used by the tick thread.
+ */
+public class GameEventBus {
+    private static final GameEventType[] TYPES = GameEventType.values();
+    private static final GameEventListener[] NONE = new GameEventListener[0];
+
+    private final GameEventListener[][] listeners = new GameEventListener[TYPES.length][];
+    private final GameEvent event = new GameEvent();
+    private boolean delivering;
+
+    /**
+     * Creates a bus with no listeners.
+     */
+    public GameEventBus() {
+        Arrays.fill(listeners, NONE);
+    }
+
+    /**
+     * Subscribes a listener to one type of event.
+     *
+     * @param type the type of event to receive.
+     * @param listener the listener to subscribe.
+     */
+    public void subscribe(GameEventType type, GameEventListener listener) {
+        GameEventListener[] current = listeners[type.ordinal()];
+        GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners[type.ordinal()] = updated;
+    }
+
+    /**
+     * Subscribes a listener to every type of event.
+     *
+     * @param listener the listener to subscribe.
+     */
+    public void subscribeAll(GameEventListener listener) {
+        for (GameEventType type : TYPES) {
+            subscribe(type, listener);
+        }
+    }
+
+    /**
+     * Unsubscribes a listener from one type of event.
+     *
+     * @param type the type of event.
+     * @param listener the listener to unsubscribe.
+     * @return true if the listener was subscribed to the type.
+     */
+    public boolean unsubscribe(GameEventType type, GameEventListener listener) {
+        GameEventListener[] current = listeners[type.ordinal()];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                GameEventListener[] updated = new GameEventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners[type.ordinal()] = updated;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unsubscribes a listener from every type of event.
+     *
+     * @param listener the listener to unsubscribe.
+     */
+    public void unsubscribeAll(GameEventListener listener) {
+        for (GameEventType type : TYPES) {
+            unsubscribe(type, listener);
+        }
+    }
+
+    /**
+     * Returns whether any listener is subscribed to the given type of event.
+     *
+     * @param type the type of event.
+     * @return true if publishing the type would reach a listener.
+     */
+    public boolean hasListeners(GameEventType type) {
+        return listeners[type.ordinal()].length > 0;
+    }
+
+    /**
+     * Delivers an event to every listener subscribed to its type, in the order they subscribed.
+     *
+     * @param type the type of event.
+     * @param subject the type of object the event is about, or null.
+     * @param x the x-coordinate where the event happened.
+     * @param y the y-coordinate where the event happened.
+     * @param value the event's value, as described by its type.
+     */
+    public void publish(GameEventType type, EntityType subject, int x, int y, int value) {
+        GameEventListener[] targets = listeners[type.ordinal()];
+        if (targets.length == 0) {
+            return;
+        }
+        GameEvent delivered = delivering ? new GameEvent() : event;
+        boolean nested = delivering;
+        delivered.set(type, subject, x, y, value);
+        delivering = true;
+        try {
+            for (GameEventListener listener : targets) {
+                listener.onEvent(delivered);
+            }
+        } finally {
+            delivering = nested;
+        }
+    }
+}
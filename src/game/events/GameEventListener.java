@@ -0,0 +1,15 @@
+package game.events;
+
+/**
+ * Receives events published on a GameEventBus.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+    /**
+     * Called on the publishing thread for each event subscribed to.
+     * The event is reused once this returns, so it must not be kept.
+     *
+     * @param event the event that happened.
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,32 @@
+package game.events;
+
+/**
+ * The kinds of event published by GameModel, and what each GameEvent field holds for them.
+ */
+public enum GameEventType {
+    /**
+     * The ship collided with an asteroid or enemy. The subject is what hit it, at the ship's position,
+     * and the value is the damage taken.
+     */
+    SHIP_HIT,
+    /**
+     * The ship collected a power-up. The subject is the type of power-up, at the ship's position.
+     */
+    POWER_UP_COLLECTED,
+    /**
+     * The game went up a level. The value is the new level.
+     */
+    LEVEL_UP,
+    /**
+     * A bullet was fired from the ship. The subject is BULLET, at the position it was fired from.
+     */
+    SHOT_FIRED,
+    /**
+     * A bullet destroyed an enemy. The subject is ENEMY, at the enemy's position.
+     */
+    SHOT_HIT,
+    /**
+     * A bullet was stopped by an asteroid. The subject is ASTEROID, at the asteroid's position.
+     */
+    SHOT_BLOCKED
+}
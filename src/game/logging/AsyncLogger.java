@@ -0,0 +1,212 @@
+package game.logging;
+
+import game.utility.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers log events to a Logger on a background thread, so that logging never slows down a tick.
+ * <p>
+ * Events are stored in a fixed ring of pre-allocated slots. Logging an event claims the next slot with a
+ * single compare-and-set, copies the format, subject and numbers into it, and marks it published, without
+ * formatting text or allocating. A consumer thread drains published slots in batches, builds each message
+ * and passes it to the target logger, in the order the events were claimed. If the ring is full the event
+ * is dropped and counted rather than blocking the caller.
+ * <p>
+ * Any thread may log. The target logger, and any action queued with execute(), is only called from the
+ * consumer thread.
+ */
+public class AsyncLogger implements Logger, AutoCloseable {
+    /**
+     * The default number of events the ring can hold before events are dropped.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int BATCH_SIZE = 64; // Events delivered between checks for closing
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final LogFormat ACTION = (out, subject, a, b) -> { }; // Marks a slot holding a Runnable
+
+    /**
+     * A pre-allocated event.
+     */
+    private static final class Slot {
+        private LogFormat format;
+        private Object subject;
+        private int a;
+        private int b;
+    }
+
+    private final Logger target;
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLongArray published; // Sequence number last published in each slot
+    private final AtomicLong tail = new AtomicLong(); // Next sequence number to claim
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long head; // Next sequence number to deliver
+    private volatile boolean running = true;
+    private final StringBuilder text = new StringBuilder(); // Only used by the consumer
+    private final Thread consumer;
+
+    /**
+     * Constructs an AsyncLogger and starts its consumer thread.
+     *
+     * @param target the logger to deliver messages to.
+     * @param capacity the number of events the ring can hold, rounded up to a power of two.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public AsyncLogger(Logger target, int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid log capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        size = Math.max(size, 1);
+        this.target = target;
+        this.slots = new Slot[size];
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+        consumer = new Thread(this::consume, "async-logger");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Constructs an AsyncLogger holding up to DEFAULT_CAPACITY events, and starts its consumer thread.
+     *
+     * @param target the logger to deliver messages to.
+     */
+    public AsyncLogger(Logger target) {
+        this(target, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Queues a plain message.
+     *
+     * @param message the message to log.
+     */
+    @Override
+    public void log(String message) {
+        log(GameLogFormat.TEXT, message, 0, 0);
+    }
+
+    /**
+     * Queues a structured event, to be formatted and delivered on the consumer thread.
+     * <p>
+     * The subject is formatted later, so it should not change after being logged.
+     *
+     * @param format how to turn the event into text.
+     * @param subject the object the event is about.
+     * @param a the event's first number.
+     * @param b the event's second number.
+     * @return true if the event was queued, false if it was dropped because the ring is full or closed.
+     */
+    public boolean log(LogFormat format, Object subject, int a, int b) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (!running || sequence - head >= slots.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        Slot slot = slots[index];
+        slot.format = format;
+        slot.subject = subject;
+        slot.a = a;
+        slot.b = b;
+        published.set(index, sequence);
+        return true;
+    }
+
+    /**
+     * Queues an action to be run on the consumer thread, in order with the events logged around it.
+     * Used for output that is not a single message, such as a list of achievements.
+     *
+     * @param action the action to run.
+     * @return true if the action was queued, false if it was dropped because the ring is full or closed.
+     */
+    public boolean execute(Runnable action) {
+        return log(ACTION, action, 0, 0);
+    }
+
+    private void consume() {
+        while (running || head < tail.get()) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Delivers up to BATCH_SIZE published events.
+     *
+     * @return the number of events delivered.
+     */
+    private int drain() {
+        int delivered = 0;
+        long next = head;
+        while (delivered < BATCH_SIZE) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            Slot slot = slots[index];
+            Object subject = slot.subject;
+            slot.subject = null;
+            if (slot.format == ACTION) {
+                head = ++next;
+                ((Runnable) subject).run();
+            } else {
+                text.setLength(0);
+                slot.format.format(text, subject, slot.a, slot.b);
+                head = ++next; // Frees the slot before delivering
+                target.log(text.toString());
+            }
+            delivered++;
+        }
+        return delivered;
+    }
+
+    /**
+     * Waits until every event queued before this call has been delivered.
+     * Must not be called from the target logger.
+     */
+    public void flush() {
+        long until = tail.get();
+        while (head < until && consumer.isAlive()) {
+            LockSupport.unpark(consumer);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the ring was full or the logger was closed.
+     *
+     * @return the number of dropped events.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops accepting events, delivers every event already queued, and stops the consumer thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
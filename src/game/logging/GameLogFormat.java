@@ -0,0 +1,53 @@
+package game.logging;
+
+/**
+ * The messages logged by GameModel and GameController while the game is running.
+ */
+public enum GameLogFormat implements LogFormat {
+    /**
+     * A plain message, given as the subject.
+     */
+    TEXT {
+        @Override
+        public void format(StringBuilder out, Object subject, int a, int b) {
+            out.append(subject);
+        }
+    },
+    /**
+     * The ship collected the power-up rendered as the subject.
+     */
+    POWER_UP_COLLECTED {
+        @Override
+        public void format(StringBuilder out, Object subject, int a, int b) {
+            out.append("PowerUp collected: ").append(subject);
+        }
+    },
+    /**
+     * The ship was hit by the object rendered as the subject, and lost a health.
+     */
+    HIT {
+        @Override
+        public void format(StringBuilder out, Object subject, int a, int b) {
+            out.append("Hit by ").append(subject).append("! Health reduced by ").append(a).append('.');
+        }
+    },
+    /**
+     * The game reached level a, with a spawn rate of b percent.
+     */
+    LEVEL_UP {
+        @Override
+        public void format(StringBuilder out, Object subject, int a, int b) {
+            out.append("Level Up! Welcome to Level ").append(a).append(". Spawn rate increased to ")
+                    .append(b).append("%.");
+        }
+    },
+    /**
+     * The ship moved to (a, b).
+     */
+    SHIP_MOVED {
+        @Override
+        public void format(StringBuilder out, Object subject, int a, int b) {
+            out.append("Ship moved to (").append(a).append(", ").append(b).append(')');
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package game.logging;
+
+/**
+ * Turns the parts of a structured log event into message text.
+ * <p>
+ * Events are logged as a format, a subject and two numbers, so that nothing is concatenated or formatted
+ * on the thread that logs them. The text is only built when the event is delivered.
+ */
+@FunctionalInterface
+public interface LogFormat {
+    /**
+     * Appends the message text for an event to the given builder.
+     *
+     * @param out the builder to append to.
+     * @param subject the object the event is about, appended with String.valueOf.
+     * @param a the event's first number.
+     * @param b the event's second number.
+     */
+    void format(StringBuilder out, Object subject, int a, int b);
+
+    /**
+     * Returns the message text for an event.
+     *
+     * @param subject the object the event is about.
+     * @param a the event's first number.
+     * @param b the event's second number.
+     * @return the formatted message.
+     */
+    default String toString(Object subject, int a, int b) {
+        StringBuilder out = new StringBuilder();
+        format(out, subject, a, b);
+        return out.toString();
+    }
+}
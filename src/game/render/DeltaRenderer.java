@@ -0,0 +1,16 @@
+package game.render;
+
+/**
+ * Draws frames from the changes since the previous frame, rather than from the full list of objects.
+ * <p>
+ * Used by GameController in place of UI.render(List) once set with setDeltaRenderer.
+ */
+@FunctionalInterface
+public interface DeltaRenderer {
+    /**
+     * Applies the changes since the last frame to the display.
+     *
+     * @param delta the changes to draw.
+     */
+    void render(FrameDelta delta);
+}
@@ -0,0 +1,166 @@
+package game.render;
+
+import game.core.SpaceObject;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The changes to the rendered space objects, including the ship, between one frame and the next.
+ * <p>
+ * A renderer applies a delta by first erasing every removed object at the position it was last drawn at,
+ * then drawing every spawned object, and finally erasing every moved object at its last drawn position and
+ * redrawing it at its new position. Moved and removed objects are reported as Changes, which carry the position
+ * last drawn, since the object itself may already be somewhere else. The same object may appear as both removed
+ * and spawned when a pooled object is recycled within a frame. A full delta lists every object as spawned,
+ * and the renderer should clear everything it has drawn before applying it.
+ */
+public final class FrameDelta {
+    /**
+     * An object that was in the last frame, along with the position it was drawn at.
+     */
+    public static final class Change {
+        private final SpaceObject object;
+        private final int previousX;
+        private final int previousY;
+
+        /**
+         * Constructs a Change for an object last drawn at the given position.
+         *
+         * @param object the object that moved or was removed.
+         * @param previousX the x coordinate the object was last drawn at.
+         * @param previousY the y coordinate the object was last drawn at.
+         */
+        public Change(SpaceObject object, int previousX, int previousY) {
+            this.object = object;
+            this.previousX = previousX;
+            this.previousY = previousY;
+        }
+
+        /**
+         * Returns the object that moved or was removed. A removed object may have been recycled since,
+         * so its current position says nothing about where it was drawn.
+         *
+         * @return the changed object.
+         */
+        public SpaceObject getObject() {
+            return object;
+        }
+
+        /**
+         * Returns the x coordinate the object was last drawn at.
+         *
+         * @return the previous x coordinate.
+         */
+        public int getPreviousX() {
+            return previousX;
+        }
+
+        /**
+         * Returns the y coordinate the object was last drawn at.
+         *
+         * @return the previous y coordinate.
+         */
+        public int getPreviousY() {
+            return previousY;
+        }
+
+        /**
+         * Returns the object and the position it was last drawn at.
+         *
+         * @return a string in the format object@(x, y)
+         */
+        @Override
+        public String toString() {
+            return object + "@(" + previousX + ", " + previousY + ")";
+        }
+    }
+
+    private final List<SpaceObject> spawned;
+    private final List<Change> moved;
+    private final List<Change> removed;
+    private final boolean full;
+
+    /**
+     * Constructs a FrameDelta with the given changes.
+     *
+     * @param spawned objects that were not in the last frame.
+     * @param moved objects that were in the last frame at a different position.
+     * @param removed objects that were in the last frame and have since left the game.
+     * @param full true if spawned holds every object, and nothing from earlier frames should be kept.
+     */
+    public FrameDelta(List<SpaceObject> spawned, List<Change> moved, List<Change> removed, boolean full) {
+        this.spawned = Collections.unmodifiableList(spawned);
+        this.moved = Collections.unmodifiableList(moved);
+        this.removed = Collections.unmodifiableList(removed);
+        this.full = full;
+    }
+
+    /**
+     * Returns a full delta that draws the given objects from scratch.
+     *
+     * @param objects every object in the frame.
+     * @return a full FrameDelta with every object spawned.
+     */
+    public static FrameDelta full(List<SpaceObject> objects) {
+        return new FrameDelta(objects, Collections.emptyList(), Collections.emptyList(), true);
+    }
+
+    /**
+     * Returns the objects that were not in the last frame.
+     *
+     * @return an unmodifiable list of spawned objects.
+     */
+    public List<SpaceObject> getSpawned() {
+        return spawned;
+    }
+
+    /**
+     * Returns the objects that were in the last frame at a different position,
+     * each with the position it was drawn at.
+     *
+     * @return an unmodifiable list of moved objects.
+     */
+    public List<Change> getMoved() {
+        return moved;
+    }
+
+    /**
+     * Returns the objects that were in the last frame and have since left the game,
+     * each with the position it was drawn at.
+     *
+     * @return an unmodifiable list of removed objects.
+     */
+    public List<Change> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns whether this delta redraws the whole frame.
+     *
+     * @return true if everything drawn earlier should be cleared before applying this delta.
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Returns whether nothing changed since the last frame.
+     *
+     * @return true if this is not a full delta and no object spawned, moved or was removed.
+     */
+    public boolean isEmpty() {
+        return !full && spawned.isEmpty() && moved.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Returns a summary of the number of changes in this delta.
+     *
+     * @return a string in the format FrameDelta(spawned=s, moved=m, removed=r, full=f)
+     */
+    @Override
+    public String toString() {
+        return "FrameDelta(spawned=" + spawned.size() + ", moved=" + moved.size()
+                + ", removed=" + removed.size() + ", full=" + full + ")";
+    }
+}
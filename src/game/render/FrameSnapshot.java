@@ -0,0 +1,196 @@
+package game.render;
+
+import game.core.EntityType;
+
+import java.util.Arrays;
+
+/**
+ * A copy of everything needed to draw one frame: the type and position of every object, and the HUD values.
+ * <p>
+ * Snapshots are handed out by a SnapshotBuffer, and do not change while a reader holds them, so they can be
+ * drawn on another thread while the simulation moves on. The ship is always the last object.
+ * Snapshots are reused between frames, so one should not be kept after the next SnapshotBuffer.read().
+ */
+public final class FrameSnapshot {
+    private int[] xs;
+    private int[] ys;
+    private EntityType[] types;
+    private int size;
+    private long frame;
+    private int tick;
+    private int width;
+    private int height;
+    private int score;
+    private int health;
+    private int level;
+
+    /**
+     * Creates an empty snapshot with room for the given number of objects.
+     *
+     * @param capacity the number of objects to allocate room for.
+     */
+    FrameSnapshot(int capacity) {
+        xs = new int[capacity];
+        ys = new int[capacity];
+        types = new EntityType[capacity];
+    }
+
+    /**
+     * Clears this snapshot and sets the values that apply to the whole frame.
+     */
+    void begin(long frame, int tick, int width, int height, int score, int health, int level) {
+        this.frame = frame;
+        this.tick = tick;
+        this.width = width;
+        this.height = height;
+        this.score = score;
+        this.health = health;
+        this.level = level;
+        Arrays.fill(types, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Appends an object to this snapshot, growing the arrays if they are full.
+     */
+    void add(EntityType type, int x, int y) {
+        if (size == xs.length) {
+            int capacity = Math.max(16, size * 2);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            types = Arrays.copyOf(types, capacity);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        types[size] = type;
+        size++;
+    }
+
+    /**
+     * Returns the number of frames published before this one, starting from 1.
+     *
+     * @return the frame number, or 0 if nothing has been published yet.
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * Returns the value passed to the last tick before this frame was published.
+     *
+     * @return the game tick.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of objects in this frame, including the ship.
+     *
+     * @return the number of objects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the type of the object at the given index.
+     *
+     * @param index the index of the object.
+     * @return the object's type.
+     * @requires 0 &lt;= index &lt; size()
+     */
+    public EntityType getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the x-coordinate of the object at the given index.
+     *
+     * @param index the index of the object.
+     * @return the object's x-coordinate.
+     * @requires 0 &lt;= index &lt; size()
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the y-coordinate of the object at the given index.
+     *
+     * @param index the index of the object.
+     * @return the object's y-coordinate.
+     * @requires 0 &lt;= index &lt; size()
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Returns the y-coordinate to draw the object at the given index, part way to the next tick.
+     *
+     * @param index the index of the object.
+     * @param alpha the fraction of a tick that has passed since this frame's tick, from 0.0 up to 1.0.
+     * @return the interpolated y-coordinate.
+     * @requires 0 &lt;= index &lt; size()
+     * @see EntityType#interpolateY(int, int, double)
+     */
+    public double getInterpolatedY(int index, double alpha) {
+        return types[index].interpolateY(ys[index], tick, alpha);
+    }
+
+    /**
+     * Returns the width of the game area.
+     *
+     * @return the width of the game area.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the game area.
+     *
+     * @return the height of the game area.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the ship's score.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the ship's health.
+     *
+     * @return the health.
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Returns the current level.
+     *
+     * @return the level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns a summary of this snapshot.
+     *
+     * @return a string in the format FrameSnapshot(frame=f, objects=n)
+     */
+    @Override
+    public String toString() {
+        return "FrameSnapshot(frame=" + frame + ", objects=" + size + ")";
+    }
+}
@@ -0,0 +1,145 @@
+package game.render;
+
+import game.core.EntityType;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Composes frames into a single ARGB pixel buffer, using sprites from a SpriteAtlas.
+ * <p>
+ * Every frame is drawn by clearing the buffer and copying each object's sprite out of the atlas, with rows
+ * of opaque sprites copied whole and fully transparent pixels skipped otherwise. The buffer backs a
+ * BufferedImage, so the UI toolkit can draw a whole frame with a single drawImage call, however many objects
+ * are on screen. Frames are drawn from FrameSnapshots, so this can run on the UI thread while the game ticks.
+ * <p>
+ * The atlas can be swapped while drawing, so a placeholder atlas can be used until the real sprites
+ * finish loading in the background:
+ *
+ * @example
+ *
+ * FramebufferRenderer renderer = new FramebufferRenderer(SpriteAtlas.placeholder(32), 10, 20);
+ * SpriteAtlas.loadAsync(Path.of("assets"), 32, executor).thenAccept(renderer::setAtlas);
+ * BufferedImage image = renderer.render(buffer.read(), alpha);
+ */
+public class FramebufferRenderer {
+    private static final int BACKGROUND = 0xFF000000;
+
+    private final int columns;
+    private final int rows;
+    private final int cellSize;
+    private final int width;
+    private final int height;
+    private final BufferedImage image;
+    private final int[] pixels;
+    private volatile SpriteAtlas atlas;
+
+    /**
+     * Constructs a FramebufferRenderer for a game area of the given size.
+     *
+     * @param atlas the sprites to draw with.
+     * @param columns the width of the game area.
+     * @param rows the height of the game area.
+     * @throws IllegalArgumentException if columns or rows is not positive, or the buffer would be too large.
+     */
+    public FramebufferRenderer(SpriteAtlas atlas, int columns, int rows) {
+        this.cellSize = atlas.getCellSize();
+        if (columns <= 0 || rows <= 0 || (long) columns * rows * cellSize * cellSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid framebuffer size: " + columns + "x" + rows
+                    + " cells of " + cellSize + " pixels");
+        }
+        this.atlas = atlas;
+        this.columns = columns;
+        this.rows = rows;
+        this.width = columns * cellSize;
+        this.height = rows * cellSize;
+        this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Replaces the sprites drawn from the next frame on.
+     *
+     * @param atlas the new sprites.
+     * @throws IllegalArgumentException if the atlas has a different cell size.
+     */
+    public void setAtlas(SpriteAtlas atlas) {
+        if (atlas.getCellSize() != cellSize) {
+            throw new IllegalArgumentException("Cell size " + atlas.getCellSize() + " does not match " + cellSize);
+        }
+        this.atlas = atlas;
+    }
+
+    /**
+     * Draws the given snapshot, with each object placed part way to its next position.
+     *
+     * @param snapshot the frame to draw.
+     * @param alpha the fraction of a tick that has passed since the snapshot's tick, from 0.0 up to 1.0.
+     * @return the image holding the drawn frame, the same instance every time.
+     */
+    public BufferedImage render(FrameSnapshot snapshot, double alpha) {
+        SpriteAtlas sprites = atlas;
+        Arrays.fill(pixels, BACKGROUND);
+        for (int i = 0; i < snapshot.size(); i++) {
+            int x = snapshot.getX(i) * cellSize;
+            int y = (int) Math.round(snapshot.getInterpolatedY(i, alpha) * cellSize);
+            blit(sprites, snapshot.getType(i), x, y);
+        }
+        return image;
+    }
+
+    /**
+     * Copies a sprite into the buffer with its top left corner at the given pixel, clipping at the edges.
+     */
+    private void blit(SpriteAtlas sprites, EntityType type, int left, int top) {
+        int fromX = Math.max(0, -left);
+        int toX = Math.min(cellSize, width - left);
+        if (fromX >= toX) {
+            return;
+        }
+        int[] source = sprites.getPixels();
+        boolean opaque = sprites.isOpaque(type);
+        for (int row = Math.max(0, -top); row < cellSize && top + row < height; row++) {
+            int from = sprites.rowOffset(type, row) + fromX;
+            int to = (top + row) * width + left + fromX;
+            if (opaque) {
+                System.arraycopy(source, from, pixels, to, toX - fromX);
+                continue;
+            }
+            for (int x = 0; x < toX - fromX; x++) {
+                int pixel = source[from + x];
+                if ((pixel >>> 24) != 0) {
+                    pixels[to + x] = pixel;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the image frames are drawn into.
+     *
+     * @return the frame image.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the width of the game area, in cells.
+     *
+     * @return the number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the height of the game area, in cells.
+     *
+     * @return the number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+}
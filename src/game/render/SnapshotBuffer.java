@@ -0,0 +1,113 @@
+package game.render;
+
+import game.core.EntityStore;
+import game.core.EntityType;
+import game.core.Ship;
+import game.core.SpaceObject;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free triple buffer of FrameSnapshots, passing frames from the simulation thread to a UI thread.
+ * <p>
+ * The simulation writes into a back buffer that no reader can see, then swaps it with the middle buffer
+ * in a single atomic step. The reader swaps the middle buffer with its front buffer only when a newer frame
+ * has been published. Neither side ever waits for the other: the simulation can publish faster than the UI
+ * paints, in which case frames are skipped, and the UI can paint faster than frames arrive, in which case
+ * it draws the same frame again. A snapshot is never written while the reader holds it, so frames never tear.
+ * <p>
+ * Only one thread may call publish, and only one thread may call read.
+ */
+public final class SnapshotBuffer {
+    private static final int INDEX = 3; // Mask for the buffer index
+    private static final int FRESH = 4; // Set when the middle buffer holds a frame the reader has not seen
+
+    private final FrameSnapshot[] buffers = new FrameSnapshot[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0; // Only used by the writer
+    private int front = 2; // Only used by the reader
+    private long frames; // Only used by the writer
+
+    /**
+     * Creates a buffer whose snapshots start with room for the given number of objects.
+     *
+     * @param capacity the number of objects to allocate room for in each snapshot.
+     */
+    public SnapshotBuffer(int capacity) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new FrameSnapshot(capacity);
+        }
+    }
+
+    /**
+     * Creates a buffer whose snapshots start with room for 64 objects.
+     */
+    public SnapshotBuffer() {
+        this(64);
+    }
+
+    /**
+     * Publishes a snapshot of the given objects, followed by the ship.
+     *
+     * @param objects the space objects in the game.
+     * @param ship the player's ship.
+     * @param width the width of the game area.
+     * @param height the height of the game area.
+     * @param level the current level.
+     * @param tick the value passed to the last tick.
+     */
+    public void publish(List<SpaceObject> objects, Ship ship, int width, int height, int level, int tick) {
+        FrameSnapshot snapshot = begin(ship, width, height, level, tick);
+        for (int i = 0; i < objects.size(); i++) {
+            SpaceObject object = objects.get(i);
+            snapshot.add(EntityType.of(object), object.getX(), object.getY());
+        }
+        end(snapshot, ship);
+    }
+
+    /**
+     * Publishes a snapshot of the entities in the given store, followed by the ship.
+     * Unlike publishing EntityStore.toSpaceObjects(), no SpaceObject is created.
+     *
+     * @param store the packed entities in the game.
+     * @param ship the player's ship.
+     * @param width the width of the game area.
+     * @param height the height of the game area.
+     * @param level the current level.
+     * @param tick the value passed to the last tick.
+     */
+    public void publish(EntityStore store, Ship ship, int width, int height, int level, int tick) {
+        FrameSnapshot snapshot = begin(ship, width, height, level, tick);
+        for (int i = 0; i < store.size(); i++) {
+            snapshot.add(store.getType(i), store.getX(i), store.getY(i));
+        }
+        end(snapshot, ship);
+    }
+
+    private FrameSnapshot begin(Ship ship, int width, int height, int level, int tick) {
+        FrameSnapshot snapshot = buffers[back];
+        snapshot.begin(++frames, tick, width, height, ship.getScore(), ship.getHealth(), level);
+        return snapshot;
+    }
+
+    private void end(FrameSnapshot snapshot, Ship ship) {
+        snapshot.add(EntityType.SHIP, ship.getX(), ship.getY());
+        // Hand the filled buffer over, and take the old middle buffer to write the next frame into
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /**
+     * Returns the most recently published snapshot.
+     * <p>
+     * The returned snapshot stays unchanged until the next call to read, and should not be used after it.
+     *
+     * @return the latest snapshot, or an empty snapshot with frame 0 if nothing has been published.
+     */
+    public FrameSnapshot read() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        return buffers[front];
+    }
+}
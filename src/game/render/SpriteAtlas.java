@@ -0,0 +1,222 @@
+package game.render;
+
+import game.core.EntityType;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Every sprite in the game, scaled to one cell size and packed side by side into a single ARGB pixel array.
+ * <p>
+ * Sprites are loaded and scaled once, so drawing an object is a copy out of this array rather than an image
+ * lookup. Sprites are stored in EntityType order, each cellSize pixels wide, so the sprite for a type starts
+ * at column type.ordinal() * cellSize of the atlas. Any sprite that cannot be loaded is replaced with a
+ * square of a colour picked for its type, so a missing asset never stops the game from being drawn.
+ */
+public final class SpriteAtlas {
+    private static final EntityType[] TYPES = EntityType.values();
+
+    private final int cellSize;
+    private final int[] pixels;
+    private final boolean[] opaque; // Per type, true if every pixel is fully opaque
+
+    private SpriteAtlas(int cellSize) {
+        this.cellSize = cellSize;
+        this.pixels = new int[TYPES.length * cellSize * cellSize];
+        this.opaque = new boolean[TYPES.length];
+    }
+
+    /**
+     * Returns an atlas of coloured squares, one per type, without loading anything.
+     * Useful to draw with while the real sprites are loading.
+     *
+     * @param cellSize the width and height of each sprite, in pixels.
+     * @return an atlas of placeholder sprites.
+     * @throws IllegalArgumentException if cellSize is not positive.
+     */
+    public static SpriteAtlas placeholder(int cellSize) {
+        checkCellSize(cellSize);
+        SpriteAtlas atlas = new SpriteAtlas(cellSize);
+        for (EntityType type : TYPES) {
+            atlas.fill(type, placeholderColour(type));
+        }
+        return atlas;
+    }
+
+    /**
+     * Loads and packs the sprite for every type from the given assets directory.
+     * <p>
+     * Sprites are read from the same files ObjectGraphic refers to, such as ship.png and asteroid.png,
+     * and scaled to cellSize by cellSize pixels.
+     *
+     * @param assets the directory containing the sprite images.
+     * @param cellSize the width and height of each sprite, in pixels.
+     * @return an atlas of the loaded sprites.
+     * @throws IllegalArgumentException if cellSize is not positive.
+     */
+    public static SpriteAtlas load(Path assets, int cellSize) {
+        checkCellSize(cellSize);
+        SpriteAtlas atlas = new SpriteAtlas(cellSize);
+        for (EntityType type : TYPES) {
+            BufferedImage image = read(assets.resolve(fileName(type)));
+            if (image == null) {
+                atlas.fill(type, placeholderColour(type));
+            } else {
+                atlas.pack(type, image);
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * Loads the sprites in the background, as load(assets, cellSize) does.
+     *
+     * @param assets the directory containing the sprite images.
+     * @param cellSize the width and height of each sprite, in pixels.
+     * @param executor the executor to load the sprites on.
+     * @return a future completed with the loaded atlas.
+     */
+    public static CompletableFuture<SpriteAtlas> loadAsync(Path assets, int cellSize, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> load(assets, cellSize), executor);
+    }
+
+    /**
+     * Returns the name of the image file used for the given type.
+     *
+     * @param type the type of object.
+     * @return the file name, relative to the assets directory.
+     */
+    public static String fileName(EntityType type) {
+        return switch (type) {
+            case BULLET -> "bullet.png";
+            case ASTEROID -> "asteroid.png";
+            case ENEMY -> "enemy.png";
+            case HEALTH_POWER_UP -> "health.png";
+            case SHIELD_POWER_UP -> "shield.png";
+            case SHIP -> "ship.png";
+        };
+    }
+
+    private static void checkCellSize(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+    }
+
+    private static BufferedImage read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return ImageIO.read(file.toFile()); // null if the format is not supported
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static int placeholderColour(EntityType type) {
+        return switch (type) {
+            case BULLET -> 0xFFFF4040;
+            case ASTEROID -> 0xFF808080;
+            case ENEMY -> 0xFF40C040;
+            case HEALTH_POWER_UP -> 0xFFFF80C0;
+            case SHIELD_POWER_UP -> 0xFF40A0FF;
+            case SHIP -> 0xFFFFFFFF;
+        };
+    }
+
+    private void fill(EntityType type, int colour) {
+        for (int y = 0; y < cellSize; y++) {
+            int start = rowOffset(type, y);
+            for (int x = 0; x < cellSize; x++) {
+                pixels[start + x] = colour;
+            }
+        }
+        opaque[type.ordinal()] = true;
+    }
+
+    private void pack(EntityType type, BufferedImage image) {
+        BufferedImage scaled = new BufferedImage(cellSize, cellSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, cellSize, cellSize, null);
+        graphics.dispose();
+
+        boolean allOpaque = true;
+        for (int y = 0; y < cellSize; y++) {
+            int start = rowOffset(type, y);
+            scaled.getRGB(0, y, cellSize, 1, pixels, start, cellSize);
+            for (int x = 0; x < cellSize; x++) {
+                allOpaque &= (pixels[start + x] >>> 24) == 0xFF;
+            }
+        }
+        opaque[type.ordinal()] = allOpaque;
+    }
+
+    /**
+     * Returns the width and height of each sprite.
+     *
+     * @return the cell size, in pixels.
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Returns the width of the whole atlas, the stride of a row in getPixels().
+     *
+     * @return the atlas width, in pixels.
+     */
+    public int getWidth() {
+        return TYPES.length * cellSize;
+    }
+
+    /**
+     * Returns the packed ARGB pixels of every sprite. The array must not be modified.
+     *
+     * @return the atlas pixels, row by row.
+     */
+    int[] getPixels() {
+        return pixels;
+    }
+
+    /**
+     * Returns the index in getPixels() of the first pixel of the given row of a type's sprite.
+     *
+     * @param type the type of object.
+     * @param row the row of the sprite, from 0 to cellSize - 1.
+     * @return the index of the row's first pixel.
+     */
+    int rowOffset(EntityType type, int row) {
+        return row * getWidth() + type.ordinal() * cellSize;
+    }
+
+    /**
+     * Returns whether every pixel of a type's sprite is fully opaque, so it can be copied without blending.
+     *
+     * @param type the type of object.
+     * @return true if the sprite has no transparent pixels.
+     */
+    boolean isOpaque(EntityType type) {
+        return opaque[type.ordinal()];
+    }
+
+    /**
+     * Returns the ARGB colour of a pixel of a type's sprite.
+     *
+     * @param type the type of object.
+     * @param x the column within the sprite.
+     * @param y the row within the sprite.
+     * @return the pixel's ARGB colour.
+     */
+    public int getPixel(EntityType type, int x, int y) {
+        return pixels[rowOffset(type, y) + x];
+    }
+}
@@ -0,0 +1,342 @@
+package game.render;
+
+import game.achievements.Achievement;
+import game.core.EntityType;
+import game.core.SpaceObject;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A UI that draws the game to an ANSI terminal, for playing over SSH or watching games in CI.
+ * <p>
+ * The board is kept as a buffer of cells, one per game position, along with the cells last written to the
+ * terminal. Each frame only the cells that changed are written, each preceded by a cursor move unless the
+ * cursor is already in place, and stats and log lines are only rewritten when they change. The whole frame
+ * is built in memory and written in a single write, so high tick rates do not flood the terminal.
+ * <p>
+ * Cells are two columns wide, so the emoji used by ObjectGraphic line up. In ASCII mode, each type of
+ * object is drawn with a single letter instead, for terminals without emoji support.
+ * Keys are read one character at a time from the input stream; the terminal should be put in raw mode
+ * (for example with stty raw -echo) so that keys arrive without waiting for Enter.
+ */
+public class TerminalUI implements UI {
+    private static final String ESC = "\u001b[";
+    private static final String EMPTY = " .";
+    private static final int LOG_LINES = 5;
+
+    private final PrintStream out;
+    private final InputStream in;
+    private final int width;
+    private final int height;
+    private final int ticksPerSecond;
+    private final String[] cells; // The frame being drawn
+    private final String[] written; // The cells currently on the terminal
+    private final Map<String, String> stats = new LinkedHashMap<>();
+    private final List<String> writtenStats = new ArrayList<>();
+    private final String[] logs = new String[LOG_LINES];
+    private final String[] writtenLogs = new String[LOG_LINES];
+    private final StringBuilder frame = new StringBuilder();
+    private boolean ascii;
+    private int cursorRow; // Terminal row and column the cursor is at, 1-based, 0 if unknown
+    private int cursorColumn;
+    private volatile boolean paused;
+    private ScheduledExecutorService stepper;
+    private Thread keyReader;
+
+    /**
+     * Constructs a TerminalUI for a game area of the given size.
+     *
+     * @param out the stream to write the terminal output to.
+     * @param in the stream to read key presses from.
+     * @param width the width of the game area.
+     * @param height the height of the game area.
+     * @param ticksPerSecond the number of times per second to step the game.
+     * @throws IllegalArgumentException if width, height or ticksPerSecond is not positive.
+     */
+    public TerminalUI(PrintStream out, InputStream in, int width, int height, int ticksPerSecond) {
+        if (width <= 0 || height <= 0 || ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Invalid terminal size or rate: " + width + "x" + height
+                    + " at " + ticksPerSecond + " ticks/s");
+        }
+        this.out = out;
+        this.in = in;
+        this.width = width;
+        this.height = height;
+        this.ticksPerSecond = ticksPerSecond;
+        this.cells = new String[width * height];
+        this.written = new String[width * height];
+        Arrays.fill(cells, EMPTY);
+    }
+
+    /**
+     * Turns ASCII mode on or off.
+     * <p>
+     * In ASCII mode, objects are drawn as letters rather than with their ObjectGraphic text.
+     *
+     * @param ascii true to draw objects as letters, false to draw their ObjectGraphic text.
+     */
+    public synchronized void setAscii(boolean ascii) {
+        this.ascii = ascii;
+    }
+
+    /**
+     * Clears the terminal and hides the cursor, ready to draw the first frame.
+     */
+    @Override
+    public synchronized void start() {
+        Arrays.fill(written, null);
+        writtenStats.clear();
+        Arrays.fill(writtenLogs, null);
+        frame.append(ESC).append("?25l").append(ESC).append("2J");
+        cursorRow = 0;
+        flush();
+    }
+
+    /**
+     * Pauses or resumes stepping the game.
+     */
+    @Override
+    public void pause() {
+        paused = !paused;
+    }
+
+    /**
+     * Stops stepping the game and reading keys, and shows the cursor below the drawn frame.
+     */
+    @Override
+    public synchronized void stop() {
+        if (stepper != null) {
+            stepper.shutdownNow();
+            stepper = null;
+        }
+        if (keyReader != null) {
+            keyReader.interrupt();
+            keyReader = null;
+        }
+        moveTo(logRow(LOG_LINES), 1);
+        frame.append(ESC).append("0m").append(ESC).append("?25h").append(System.lineSeparator());
+        flush();
+    }
+
+    /**
+     * Steps the given tickable ticksPerSecond times per second on a background thread, unless paused.
+     *
+     * @param tickable the tickable to step.
+     */
+    @Override
+    public synchronized void onStep(Tickable tickable) {
+        if (stepper != null) {
+            stepper.shutdownNow();
+        }
+        stepper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "terminal-step");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int[] tick = new int[1];
+        stepper.scheduleAtFixedRate(() -> {
+            if (!paused) {
+                tickable.tick(tick[0]++);
+            }
+        }, 0, TimeUnit.SECONDS.toNanos(1) / ticksPerSecond, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Passes every non-whitespace character read from the input stream to the given handler,
+     * on a background thread.
+     *
+     * @param key the handler for key presses.
+     */
+    @Override
+    public synchronized void onKey(KeyHandler key) {
+        if (keyReader != null) {
+            keyReader.interrupt();
+        }
+        keyReader = new Thread(() -> {
+            try {
+                int c;
+                while (!Thread.currentThread().isInterrupted() && (c = in.read()) != -1) {
+                    if (!Character.isWhitespace(c)) {
+                        key.onPress(String.valueOf((char) c));
+                    }
+                }
+            } catch (IOException e) {
+                log("Stopped reading keys: " + e.getMessage());
+            }
+        }, "terminal-keys");
+        keyReader.setDaemon(true);
+        keyReader.start();
+    }
+
+    /**
+     * Draws the given objects, writing only the cells, stats and log lines that changed since the last frame.
+     * Objects outside the game area are not drawn.
+     *
+     * @param objects the objects to draw.
+     */
+    @Override
+    public synchronized void render(List<SpaceObject> objects) {
+        Arrays.fill(cells, EMPTY);
+        for (int i = 0; i < objects.size(); i++) {
+            SpaceObject object = objects.get(i);
+            int x = object.getX();
+            int y = object.getY();
+            if (x >= 0 && x < width && y >= 0 && y < height) {
+                cells[y * width + x] = glyph(object);
+            }
+        }
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int cell = y * width + x;
+                if (!cells[cell].equals(written[cell])) {
+                    moveTo(y + 1, x * 2 + 1);
+                    frame.append(cells[cell]);
+                    cursorColumn += 2;
+                    written[cell] = cells[cell];
+                }
+            }
+        }
+        writeStats();
+        writeLogs();
+        flush();
+    }
+
+    /**
+     * Shows the given message in the log area below the board, scrolling older messages up.
+     *
+     * @param message the message to show.
+     */
+    @Override
+    public synchronized void log(String message) {
+        System.arraycopy(logs, 1, logs, 0, LOG_LINES - 1);
+        logs[LOG_LINES - 1] = message;
+    }
+
+    /**
+     * Shows the given stat below the board, replacing any earlier value with the same label.
+     *
+     * @param label the name of the stat.
+     * @param value the value to show.
+     */
+    @Override
+    public synchronized void setStat(String label, String value) {
+        stats.put(label, value);
+    }
+
+    /**
+     * Shows the given achievement message in the log area.
+     *
+     * @param message the message to show.
+     */
+    @Override
+    public void logAchievementMastered(String message) {
+        log(message);
+    }
+
+    /**
+     * Shows the progress of each of the given achievements in the log area.
+     *
+     * @param achievements the achievements to show.
+     */
+    @Override
+    public synchronized void logAchievements(List<Achievement> achievements) {
+        for (Achievement achievement : achievements) {
+            log(String.format("%s: %.0f%% (%s)", achievement.getName(), achievement.getProgress() * 100,
+                    achievement.getCurrentTier()));
+        }
+    }
+
+    /**
+     * Shows the given achievement progress as a stat below the board.
+     *
+     * @param achievementName the name of the achievement.
+     * @param progressPercentage the progress to show, as a percentage.
+     */
+    @Override
+    public void setAchievementProgressStat(String achievementName, double progressPercentage) {
+        setStat(achievementName, String.format("%.0f%%", progressPercentage));
+    }
+
+    private String glyph(SpaceObject object) {
+        if (!ascii) {
+            return String.valueOf(object.render());
+        }
+        return switch (EntityType.of(object)) {
+            case BULLET -> " |";
+            case ASTEROID -> " O";
+            case ENEMY -> " W";
+            case HEALTH_POWER_UP -> " +";
+            case SHIELD_POWER_UP -> " S";
+            case SHIP -> " A";
+        };
+    }
+
+    private void writeStats() {
+        if (stats.size() != writtenStats.size()) {
+            Arrays.fill(writtenLogs, null); // The log area has moved down
+        }
+        int line = 0;
+        for (Map.Entry<String, String> stat : stats.entrySet()) {
+            String text = stat.getKey() + ": " + stat.getValue();
+            if (line >= writtenStats.size()) {
+                writtenStats.add(null);
+            }
+            if (!text.equals(writtenStats.get(line))) {
+                writeLine(height + 2 + line, text);
+                writtenStats.set(line, text);
+            }
+            line++;
+        }
+    }
+
+    private void writeLogs() {
+        for (int i = 0; i < LOG_LINES; i++) {
+            if (logs[i] != null && !logs[i].equals(writtenLogs[i])) {
+                writeLine(logRow(i), logs[i]);
+                writtenLogs[i] = logs[i];
+            }
+        }
+    }
+
+    private int logRow(int line) {
+        return height + 3 + stats.size() + line;
+    }
+
+    private void writeLine(int row, String text) {
+        moveTo(row, 1);
+        frame.append(text).append(ESC).append('K'); // Clear the rest of the old line
+        cursorRow = 0; // The width of text is not known, so the cursor position is not either
+    }
+
+    private void moveTo(int row, int column) {
+        if (row != cursorRow || column != cursorColumn) {
+            frame.append(ESC).append(row).append(';').append(column).append('H');
+            cursorRow = row;
+            cursorColumn = column;
+        }
+    }
+
+    private void flush() {
+        if (frame.length() == 0) {
+            return;
+        }
+        byte[] bytes = frame.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+        out.flush();
+        frame.setLength(0);
+    }
+}
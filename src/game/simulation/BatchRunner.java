@@ -0,0 +1,123 @@
+package game.simulation;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Plays many independent headless games in parallel and aggregates their outcomes.
+ * <p>
+ * Every game gets its own GameModel, PlayerStatsTracker and InputSource, and a seed of its own,
+ * so games share no mutable state and throughput scales with the number of threads.
+ * Results are collected once all games finish and are reported in seed order.
+ *
+ * @example
+ *
+ * BatchRunner runner = new BatchRunner(8, 100_000, InputSource::bot);
+ * BatchSummary summary = runner.run(0, 1000); // Seeds 0 to 999
+ * System.out.println(summary);
+ */
+public class BatchRunner {
+    private final int threads;
+    private final int ticksPerGame;
+    private final int width;
+    private final int height;
+    private final Supplier<InputSource> inputs;
+
+    /**
+     * Constructs a BatchRunner for games on a game area of the given size.
+     *
+     * @param threads the number of games to play at once.
+     * @param ticksPerGame the maximum number of ticks to play per game.
+     * @param width the width of the game area.
+     * @param height the height of the game area.
+     * @param inputs creates the input source for each game.
+     * @throws IllegalArgumentException if threads is not positive.
+     */
+    public BatchRunner(int threads, int ticksPerGame, int width, int height, Supplier<InputSource> inputs) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+        this.ticksPerGame = ticksPerGame;
+        this.width = width;
+        this.height = height;
+        this.inputs = inputs;
+    }
+
+    /**
+     * Constructs a BatchRunner for default-sized games.
+     *
+     * @param threads the number of games to play at once.
+     * @param ticksPerGame the maximum number of ticks to play per game.
+     * @param inputs creates the input source for each game.
+     * @throws IllegalArgumentException if threads is not positive.
+     */
+    public BatchRunner(int threads, int ticksPerGame, Supplier<InputSource> inputs) {
+        this(threads, ticksPerGame, GameModel.GAME_WIDTH, GameModel.GAME_HEIGHT, inputs);
+    }
+
+    /**
+     * Plays one game for each seed from firstSeed to firstSeed + games - 1.
+     *
+     * @param firstSeed the seed of the first game.
+     * @param games the number of games to play.
+     * @return the aggregated outcomes.
+     * @throws IllegalStateException if a game fails or the batch is interrupted.
+     */
+    public BatchSummary run(int firstSeed, int games) {
+        List<Callable<SimulationResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            int seed = firstSeed + i;
+            tasks.add(() -> play(seed));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<SimulationResult> results = new ArrayList<>(games);
+            for (Future<SimulationResult> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return new BatchSummary(results, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Game failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SimulationResult play(int seed) {
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), width, height);
+        return new HeadlessRunner(model, seed, inputs.get()).run(ticksPerGame);
+    }
+
+    /**
+     * Plays a batch of headless games using every available core and prints the summary.
+     * <p>
+     * Usage: BatchRunner [games] [ticksPerGame] [firstSeed]
+     * Defaults to 1000 games of up to 100000 ticks, starting at seed 0, played by InputSource.bot().
+     *
+     * @param args the command line arguments.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int firstSeed = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        BatchSummary summary = new BatchRunner(threads, ticks, InputSource::bot).run(firstSeed, games);
+        System.out.println(summary);
+    }
+}
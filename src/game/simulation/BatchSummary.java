@@ -0,0 +1,183 @@
+package game.simulation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregated outcomes of a batch of headless games.
+ */
+public class BatchSummary {
+    private final List<SimulationResult> results;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a BatchSummary over the given per-game results.
+     *
+     * @param results the result of each game, in seed order.
+     * @param elapsedNanos the wall-clock time the whole batch took, in nanoseconds.
+     */
+    public BatchSummary(List<SimulationResult> results, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the result of each game, in seed order.
+     *
+     * @return an unmodifiable list of per-game results.
+     */
+    public List<SimulationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return the number of games.
+     */
+    public int getGames() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of games that ended with the ship destroyed.
+     *
+     * @return the number of games over.
+     */
+    public int getGamesOver() {
+        int count = 0;
+        for (SimulationResult result : results) {
+            if (result.isGameOver()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total number of ticks simulated across all games.
+     *
+     * @return the total number of ticks.
+     */
+    public long getTotalTicks() {
+        long total = 0;
+        for (SimulationResult result : results) {
+            total += result.getTicks();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the mean number of ticks survived per game.
+     *
+     * @return the mean survival in ticks, or 0.0 if no games were played.
+     */
+    public double getMeanSurvivalTicks() {
+        return results.isEmpty() ? 0.0 : (double) getTotalTicks() / results.size();
+    }
+
+    /**
+     * Returns the fewest ticks survived by any game.
+     *
+     * @return the minimum survival in ticks, or 0 if no games were played.
+     */
+    public int getMinSurvivalTicks() {
+        int min = results.isEmpty() ? 0 : Integer.MAX_VALUE;
+        for (SimulationResult result : results) {
+            min = Math.min(min, result.getTicks());
+        }
+        return min;
+    }
+
+    /**
+     * Returns the most ticks survived by any game.
+     *
+     * @return the maximum survival in ticks, or 0 if no games were played.
+     */
+    public int getMaxSurvivalTicks() {
+        int max = 0;
+        for (SimulationResult result : results) {
+            max = Math.max(max, result.getTicks());
+        }
+        return max;
+    }
+
+    /**
+     * Returns the mean level reached per game.
+     *
+     * @return the mean level, or 0.0 if no games were played.
+     */
+    public double getMeanLevel() {
+        if (results.isEmpty()) {
+            return 0.0;
+        }
+        long total = 0;
+        for (SimulationResult result : results) {
+            total += result.getLevel();
+        }
+        return (double) total / results.size();
+    }
+
+    /**
+     * Returns the highest level reached by any game.
+     *
+     * @return the maximum level, or 0 if no games were played.
+     */
+    public int getMaxLevel() {
+        int max = 0;
+        for (SimulationResult result : results) {
+            max = Math.max(max, result.getLevel());
+        }
+        return max;
+    }
+
+    /**
+     * Returns the accuracy over all shots fired in every game.
+     *
+     * @return the overall accuracy, or 0.0 if no shots were fired.
+     */
+    public double getAccuracy() {
+        long fired = 0;
+        long hit = 0;
+        for (SimulationResult result : results) {
+            fired += result.getShotsFired();
+            hit += result.getShotsHit();
+        }
+        return fired == 0 ? 0.0 : (double) hit / fired;
+    }
+
+    /**
+     * Returns the wall-clock time the whole batch took, in nanoseconds.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of ticks simulated per second of wall-clock time, across all games.
+     *
+     * @return the combined tick rate, or 0.0 if no time elapsed.
+     */
+    public double getTicksPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0.0;
+        }
+        return getTotalTicks() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns a summary of the batch.
+     *
+     * @return a human-readable summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("games=%d gamesOver=%d time=%.1fms rate=%.0f ticks/s "
+                        + "survival(mean/min/max)=%.1f/%d/%d level(mean/max)=%.2f/%d accuracy=%.3f",
+                getGames(), getGamesOver(), elapsedNanos / 1_000_000.0, getTicksPerSecond(),
+                getMeanSurvivalTicks(), getMinSurvivalTicks(), getMaxSurvivalTicks(),
+                getMeanLevel(), getMaxLevel(), getAccuracy());
+    }
+}
@@ -0,0 +1,135 @@
+package game.simulation;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import game.exceptions.BoundaryExceededException;
+import game.utility.Direction;
+
+/**
+ * Runs a GameModel without a UI, as fast as the CPU allows.
+ * <p>
+ * Each tick applies one input from the InputSource, then advances the model in the same order as
+ * GameController.onTick: updateGame, checkCollisions, spawnObjects and levelUp. Achievements and rendering
+ * are skipped. The run stops after the requested number of ticks, or earlier if the game is over.
+ *
+ * @example
+ *
+ * GameModel model = new GameModel(message -> { }, new PlayerStatsTracker());
+ * SimulationResult result = new HeadlessRunner(model, 42, InputSource.bot()).run(100_000);
+ * System.out.println(result);
+ */
+public class HeadlessRunner {
+    private final GameModel model;
+    private final int seed;
+    private final InputSource input;
+
+    /**
+     * Constructs a HeadlessRunner for the given model, and seeds the model's random spawning.
+     *
+     * @param model the model to simulate.
+     * @param seed the random seed to play with.
+     * @param input the source of player input.
+     * @requires model != null, input != null
+     */
+    public HeadlessRunner(GameModel model, int seed, InputSource input) {
+        this.model = model;
+        this.seed = seed;
+        this.input = input;
+        model.setRandomSeed(seed);
+    }
+
+    /**
+     * Constructs a HeadlessRunner for a new default-sized game with no logging.
+     *
+     * @param seed the random seed to play with.
+     * @param input the source of player input.
+     * @requires input != null
+     */
+    public HeadlessRunner(int seed, InputSource input) {
+        this(new GameModel(message -> { }, new PlayerStatsTracker()), seed, input);
+    }
+
+    /**
+     * Returns the model being simulated.
+     *
+     * @return the model.
+     */
+    public GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * Simulates up to the given number of ticks, stopping early if the game is over.
+     *
+     * @param ticks the maximum number of ticks to simulate.
+     * @return the outcome of the run.
+     */
+    public SimulationResult run(int ticks) {
+        int peakObjects = model.getObjectCount();
+        int tick = 0;
+        long start = System.nanoTime();
+        while (tick < ticks && !model.checkGameOver()) {
+            applyInput(input.nextInput(tick, model));
+            model.updateGame(tick);
+            model.checkCollisions();
+            model.spawnObjects();
+            model.levelUp();
+            peakObjects = Math.max(peakObjects, model.getObjectCount());
+            tick++;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        PlayerStatsTracker stats = model.getStatsTracker();
+        return new SimulationResult(seed, tick, elapsed, model.checkGameOver(),
+                model.getObjectCount(), peakObjects, model.getShip().getScore(),
+                model.getShip().getHealth(), model.getLevel(),
+                stats.getShotsFired(), stats.getShotsHit());
+    }
+
+    /**
+     * Applies a single input to the model, as GameController.handlePlayerInput would.
+     * Moves that would leave the game area are ignored.
+     *
+     * @param key the input to apply, or null for none.
+     */
+    private void applyInput(String key) {
+        if (key == null) {
+            return;
+        }
+        try {
+            switch (key.toUpperCase()) {
+                case "W" -> model.getShip().move(Direction.UP, model.getWidth(), model.getHeight());
+                case "A" -> model.getShip().move(Direction.LEFT, model.getWidth(), model.getHeight());
+                case "S" -> model.getShip().move(Direction.DOWN, model.getWidth(), model.getHeight());
+                case "D" -> model.getShip().move(Direction.RIGHT, model.getWidth(), model.getHeight());
+                case "F" -> {
+                    model.fireBullet();
+                    model.getStatsTracker().recordShotFired();
+                }
+                default -> {
+                }
+            }
+        } catch (BoundaryExceededException e) {
+            // The ship stays where it is, as it would in the game
+        }
+    }
+
+    /**
+     * Runs a single headless game and prints its result.
+     * <p>
+     * Usage: HeadlessRunner [ticks] [seed] [width] [height]
+     * Defaults to 100000 ticks with seed 0 on a default-sized board, played by InputSource.bot().
+     *
+     * @param args the command line arguments.
+     */
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int seed = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        int width = args.length > 2 ? Integer.parseInt(args[2]) : GameModel.GAME_WIDTH;
+        int height = args.length > 3 ? Integer.parseInt(args[3]) : GameModel.GAME_HEIGHT;
+
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), width, height);
+        SimulationResult result = new HeadlessRunner(model, seed, InputSource.bot()).run(ticks);
+        System.out.println(result);
+    }
+}
@@ -0,0 +1,72 @@
+package game.simulation;
+
+import game.GameModel;
+import game.core.EntityType;
+
+/**
+ * Supplies player input to a headless simulation, one tick at a time.
+ */
+@FunctionalInterface
+public interface InputSource {
+
+    /**
+     * Returns the input for the given tick, using the same commands as GameController.handlePlayerInput:
+     * "W", "A", "S", "D" to move and "F" to fire.
+     *
+     * @param tick the tick about to be simulated.
+     * @param model the model being simulated.
+     * @return the input for this tick, or null for no input.
+     */
+    String nextInput(int tick, GameModel model);
+
+    /**
+     * Returns an input source that never sends any input.
+     *
+     * @return an idle input source.
+     */
+    static InputSource none() {
+        return (tick, model) -> null;
+    }
+
+    /**
+     * Returns an input source that plays back the given script, repeating it once it runs out.
+     * Each character is the input for one tick, with '.' meaning no input.
+     *
+     * @param script the script to play back, e.g. "FFA.D".
+     * @return the scripted input source.
+     * @requires script.length() &gt; 0
+     */
+    static InputSource script(String script) {
+        return (tick, model) -> {
+            char key = script.charAt(Math.floorMod(tick, script.length()));
+            return key == '.' ? null : String.valueOf(key);
+        };
+    }
+
+    /**
+     * Returns a simple bot that lines up with the lowest enemy on screen and fires at it,
+     * firing on every other tick.
+     * <p>
+     * The bot scans objects by index, so it never copies the object list in packed storage mode.
+     *
+     * @return the bot input source.
+     */
+    static InputSource bot() {
+        return (tick, model) -> {
+            int target = -1;
+            for (int i = 0; i < model.getObjectCount(); i++) {
+                if (model.getObjectType(i) == EntityType.ENEMY
+                        && (target < 0 || model.getObjectY(i) > model.getObjectY(target))) {
+                    target = i;
+                }
+            }
+            int shipX = model.getShip().getX();
+            if (target >= 0 && model.getObjectX(target) < shipX) {
+                return "A";
+            } else if (target >= 0 && model.getObjectX(target) > shipX) {
+                return "D";
+            }
+            return tick % 2 == 0 ? "F" : null;
+        };
+    }
+}
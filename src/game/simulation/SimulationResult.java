@@ -0,0 +1,186 @@
+package game.simulation;
+
+/**
+ * The outcome and throughput figures of a single headless simulation run.
+ */
+public class SimulationResult {
+    private final int seed;
+    private final int ticks;
+    private final long elapsedNanos;
+    private final boolean gameOver;
+    private final int finalObjects;
+    private final int peakObjects;
+    private final int score;
+    private final int health;
+    private final int level;
+    private final int shotsFired;
+    private final int shotsHit;
+
+    /**
+     * Constructs a SimulationResult with the given figures.
+     *
+     * @param seed the random seed the game was played with.
+     * @param ticks the number of ticks simulated.
+     * @param elapsedNanos the wall-clock time the simulation took, in nanoseconds.
+     * @param gameOver true if the run ended because the ship was destroyed.
+     * @param finalObjects the number of space objects at the end of the run.
+     * @param peakObjects the largest number of space objects during the run.
+     * @param score the ship's final score.
+     * @param health the ship's final health.
+     * @param level the final level reached.
+     * @param shotsFired the number of shots fired.
+     * @param shotsHit the number of shots that hit.
+     */
+    public SimulationResult(int seed, int ticks, long elapsedNanos, boolean gameOver,
+                            int finalObjects, int peakObjects, int score, int health,
+                            int level, int shotsFired, int shotsHit) {
+        this.seed = seed;
+        this.ticks = ticks;
+        this.elapsedNanos = elapsedNanos;
+        this.gameOver = gameOver;
+        this.finalObjects = finalObjects;
+        this.peakObjects = peakObjects;
+        this.score = score;
+        this.health = health;
+        this.level = level;
+        this.shotsFired = shotsFired;
+        this.shotsHit = shotsHit;
+    }
+
+    /**
+     * Returns the random seed the game was played with.
+     *
+     * @return the seed.
+     */
+    public int getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of ticks simulated.
+     *
+     * @return the number of ticks.
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns the wall-clock time the simulation took, in nanoseconds.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of ticks simulated per second of wall-clock time.
+     *
+     * @return the tick rate, or 0.0 if no time elapsed.
+     */
+    public double getTicksPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0.0;
+        }
+        return ticks * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns whether the run ended because the ship was destroyed.
+     *
+     * @return true if the game was over at the end of the run.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns the number of space objects at the end of the run.
+     *
+     * @return the final object count.
+     */
+    public int getFinalObjects() {
+        return finalObjects;
+    }
+
+    /**
+     * Returns the largest number of space objects during the run.
+     *
+     * @return the peak object count.
+     */
+    public int getPeakObjects() {
+        return peakObjects;
+    }
+
+    /**
+     * Returns the ship's final score.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the ship's final health.
+     *
+     * @return the health.
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Returns the final level reached.
+     *
+     * @return the level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the number of shots fired.
+     *
+     * @return the shots fired.
+     */
+    public int getShotsFired() {
+        return shotsFired;
+    }
+
+    /**
+     * Returns the number of shots that hit.
+     *
+     * @return the shots hit.
+     */
+    public int getShotsHit() {
+        return shotsHit;
+    }
+
+    /**
+     * Returns the shooting accuracy, as shots hit divided by shots fired.
+     *
+     * @return the accuracy, or 0.0 if no shots were fired.
+     */
+    public double getAccuracy() {
+        if (shotsFired == 0) {
+            return 0.0;
+        }
+        return (double) shotsHit / shotsFired;
+    }
+
+    /**
+     * Returns a summary of the run, including throughput and final stats.
+     *
+     * @return a human-readable summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("seed=%d ticks=%d time=%.1fms rate=%.0f ticks/s gameOver=%b "
+                        + "objects=%d peakObjects=%d score=%d health=%d level=%d "
+                        + "shotsFired=%d shotsHit=%d accuracy=%.2f",
+                seed, ticks, elapsedNanos / 1_000_000.0, getTicksPerSecond(), gameOver,
+                finalObjects, peakObjects, score, health, level, shotsFired, shotsHit, getAccuracy());
+    }
+}
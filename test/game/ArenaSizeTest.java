@@ -0,0 +1,75 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.exceptions.BoundaryExceededException;
+import game.utility.Direction;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ArenaSizeTest {
+
+    @Test
+    public void objectsStayInLargeArena() {
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), 1000, 5000);
+        Asteroid asteroid = new Asteroid(999, 4998);
+        model.addObject(asteroid);
+        List<SpaceObject> objects = model.getSpaceObjects();
+        model.updateGame(10);
+
+        assertTrue(objects.contains(asteroid));
+        assertEquals(4999, asteroid.getY());
+    }
+
+    @Test
+    public void shipMovesPastDefaultWidth() {
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), 12, 20);
+        Ship ship = model.getShip();
+        for (int i = 0; i < 6; i++) {
+            ship.move(Direction.RIGHT, model.getWidth(), model.getHeight());
+        }
+        assertEquals(11, ship.getX());
+
+        try {
+            ship.move(Direction.RIGHT, model.getWidth(), model.getHeight());
+            fail("Expected BoundaryExceededException");
+        } catch (BoundaryExceededException e) {
+            assertEquals("Cannot move right. Out of bounds!", e.getMessage());
+        }
+    }
+
+    @Test
+    public void spawnsAcrossFullWidth() {
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), 1000, 50);
+        model.setRandomSeed(1);
+        for (int i = 0; i < 100; i++) {
+            model.levelUp();
+            model.getShip().addScore(100);
+            model.spawnObjects();
+        }
+        boolean beyondDefault = false;
+        for (SpaceObject object : model.getSpaceObjects()) {
+            beyondDefault |= object.getX() >= GameModel.GAME_WIDTH;
+        }
+        assertTrue(beyondDefault);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyArena() {
+        new GameModel(message -> { }, new PlayerStatsTracker(), 0, 20);
+    }
+
+    @Test
+    public void rejectsArenaWithoutShipStart() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameModel(message -> { }, new PlayerStatsTracker(), 1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameModel(message -> { }, new PlayerStatsTracker(), 5, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameModel(message -> { }, new PlayerStatsTracker(), 10, 10));
+        new GameModel(message -> { }, new PlayerStatsTracker(), 6, 11); // Smallest area that fits the ship
+    }
+}
@@ -101,6 +101,21 @@ public class CheckCollisionsTest {
 
     }
 
+    @Test
+    public void collisionPrintingAsync() {
+        lastLog = "";
+        gameModel.setVerbose(true);
+        gameController.setAsyncLogging(true);
+        Asteroid asteroid = new Asteroid(5,10);
+
+        gameModel.addObject(asteroid);
+        gameModel.checkCollisions();
+        gameController.setAsyncLogging(false); // Delivers the queued message
+
+        String expected = "Hit by " + asteroid.render() + "! Health reduced by " + 10 + ".";
+        assertEquals(expected, lastLog);
+    }
+
     @Test
     public void collisionPrintingEnemy() {
         lastLog = "";
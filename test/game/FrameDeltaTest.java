@@ -0,0 +1,167 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.render.FrameDelta;
+import game.utility.Direction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class FrameDeltaTest {
+    private GameModel model;
+
+    private static List<SpaceObject> objects(List<FrameDelta.Change> changes) {
+        List<SpaceObject> objects = new ArrayList<>();
+        for (FrameDelta.Change change : changes) {
+            objects.add(change.getObject());
+        }
+        return objects;
+    }
+
+    private static void draw(Map<List<Integer>, Integer> board, int x, int y, int count) {
+        board.merge(List.of(x, y), count, Integer::sum);
+        board.remove(List.of(x, y), 0);
+    }
+
+    @Before
+    public void setUp() {
+        model = new GameModel(message -> { }, new PlayerStatsTracker());
+        model.setFrameTracking(true);
+    }
+
+    @Test
+    public void firstFrameIsFull() {
+        Asteroid asteroid = new Asteroid(1, 1);
+        model.addObject(asteroid);
+        FrameDelta delta = model.takeFrameDelta();
+
+        assertTrue(delta.isFull());
+        assertEquals(List.of(asteroid, model.getShip()), delta.getSpawned());
+        assertTrue(model.takeFrameDelta().isEmpty());
+    }
+
+    @Test
+    public void onlyMovedObjectsReported() {
+        Asteroid asteroid = new Asteroid(1, 1);
+        Bullet bullet = new Bullet(3, 8);
+        model.addObject(asteroid);
+        model.addObject(bullet);
+        model.takeFrameDelta();
+
+        model.updateGame(1); // Descending enemies only move every 10th tick
+        FrameDelta delta = model.takeFrameDelta();
+        assertFalse(delta.isFull());
+        assertEquals(List.of(bullet), objects(delta.getMoved()));
+        assertEquals(8, delta.getMoved().get(0).getPreviousY());
+        assertTrue(delta.getSpawned().isEmpty());
+
+        int shipX = model.getShip().getX();
+        model.getShip().move(Direction.LEFT);
+        delta = model.takeFrameDelta();
+        assertEquals(List.of(model.getShip()), objects(delta.getMoved()));
+        assertEquals(shipX, delta.getMoved().get(0).getPreviousX());
+    }
+
+    @Test
+    public void spawnsAndRemovalsReported() {
+        Bullet bullet = new Bullet(3, 0);
+        model.addObject(bullet);
+        model.takeFrameDelta();
+
+        Enemy enemy = new Enemy(4, 4);
+        model.addObject(enemy);
+        model.updateGame(1);
+        FrameDelta delta = model.takeFrameDelta();
+
+        assertEquals(List.of(enemy), delta.getSpawned());
+        assertEquals(List.of(bullet), objects(delta.getRemoved()));
+        assertEquals(3, delta.getRemoved().get(0).getPreviousX());
+        assertEquals(0, delta.getRemoved().get(0).getPreviousY()); // Where it was drawn, not where it left
+        assertTrue(delta.getMoved().isEmpty());
+    }
+
+    @Test
+    public void recycledObjectReportsWhereItWasDrawn() {
+        model.setObjectPooling(true);
+        model.fireBullet();
+        SpaceObject bullet = model.getSpaceObjects().get(0);
+        int drawnX = bullet.getX();
+        int drawnY = bullet.getY();
+        model.takeFrameDelta();
+
+        for (int tick = 1; model.getSpaceObjects().contains(bullet); tick++) {
+            model.updateGame(tick); // Fly the bullet off the top of the screen
+        }
+        model.fireBullet(); // Reuses the same bullet from the pool
+        FrameDelta delta = model.takeFrameDelta();
+
+        assertEquals(List.of(bullet), delta.getSpawned());
+        assertEquals(List.of(bullet), objects(delta.getRemoved()));
+        assertEquals(drawnX, delta.getRemoved().get(0).getPreviousX());
+        assertEquals(drawnY, delta.getRemoved().get(0).getPreviousY());
+    }
+
+    @Test
+    public void deltasEraseOldCells() {
+        model.setObjectPooling(true);
+        model.setRandomSeed(7);
+        Map<List<Integer>, Integer> board = new HashMap<>(); // Number of objects drawn in each cell
+        for (int tick = 0; tick < 500; tick++) {
+            if (tick % 5 == 0) {
+                model.fireBullet();
+            }
+            model.updateGame(tick);
+            model.checkCollisions();
+            model.spawnObjects();
+
+            FrameDelta delta = model.takeFrameDelta();
+            if (delta.isFull()) {
+                board.clear();
+            }
+            for (FrameDelta.Change change : delta.getRemoved()) {
+                draw(board, change.getPreviousX(), change.getPreviousY(), -1);
+            }
+            for (SpaceObject object : delta.getSpawned()) {
+                draw(board, object.getX(), object.getY(), 1);
+            }
+            for (FrameDelta.Change change : delta.getMoved()) {
+                draw(board, change.getPreviousX(), change.getPreviousY(), -1);
+                draw(board, change.getObject().getX(), change.getObject().getY(), 1);
+            }
+
+            Map<List<Integer>, Integer> expected = new HashMap<>();
+            for (SpaceObject object : model.getSpaceObjects()) {
+                draw(expected, object.getX(), object.getY(), 1);
+            }
+            draw(expected, model.getShip().getX(), model.getShip().getY(), 1);
+            assertEquals("tick " + tick, expected, board);
+        }
+    }
+
+    @Test
+    public void unrenderedRemovalNotReported() {
+        model.takeFrameDelta();
+        model.addObject(new Bullet(3, 0));
+        model.updateGame(1);
+
+        assertTrue(model.takeFrameDelta().isEmpty());
+    }
+
+    @Test
+    public void fullFramesWithoutTracking() {
+        model.setFrameTracking(false);
+        model.addObject(new Asteroid(1, 1));
+        model.takeFrameDelta();
+
+        FrameDelta delta = model.takeFrameDelta();
+        assertTrue(delta.isFull());
+        assertEquals(2, delta.getSpawned().size());
+    }
+}
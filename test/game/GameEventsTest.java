@@ -0,0 +1,69 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.events.GameEventType;
+import game.utility.Direction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameEventsTest {
+    private GameModel model;
+    private List<String> events;
+
+    @Before
+    public void setUp() {
+        model = new GameModel(message -> { }, new PlayerStatsTracker());
+        events = new ArrayList<>();
+        model.getEventBus().subscribeAll(event -> events.add(event.toString()));
+    }
+
+    @Test
+    public void shipCollisionsPublished() {
+        model.addObject(new Enemy(5, 10));
+        model.addObject(new ShieldPowerUp(5, 10));
+        model.checkCollisions();
+
+        assertEquals(List.of("SHIP_HIT(ENEMY, 5, 10, 20)", "POWER_UP_COLLECTED(SHIELD_POWER_UP, 5, 10, 0)"),
+                events);
+    }
+
+    @Test
+    public void shotsPublishedAndCounted() {
+        model.fireBullet();
+        model.addObject(new Enemy(5, 10));
+        model.addObject(new Bullet(2, 2));
+        model.addObject(new Asteroid(2, 2));
+        model.getShip().move(Direction.UP); // Out of the way of the enemy
+        model.checkCollisions();
+
+        assertEquals(List.of("SHOT_FIRED(BULLET, 5, 10, 0)", "SHOT_HIT(ENEMY, 5, 10, 0)",
+                "SHOT_BLOCKED(ASTEROID, 2, 2, 0)"), events);
+        assertEquals(1, model.getStatsTracker().getShotsHit());
+    }
+
+    @Test
+    public void packedModePublishesSameEvents() {
+        model.setPackedStorage(true);
+        model.addObject(new Bullet(3, 3));
+        model.addObject(new Enemy(3, 3));
+        model.checkCollisions();
+
+        assertEquals(List.of("SHOT_HIT(ENEMY, 3, 3, 0)"), events);
+        assertEquals(1, model.getStatsTracker().getShotsHit());
+    }
+
+    @Test
+    public void levelUpPublished() {
+        model.getShip().addScore(GameModel.SCORE_THRESHOLD);
+        model.levelUp();
+
+        assertEquals(List.of("LEVEL_UP(null, 0, 0, 2)"), events);
+        assertTrue(model.getEventBus().hasListeners(GameEventType.SHOT_HIT));
+    }
+}
@@ -0,0 +1,87 @@
+package game;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameLoopTest {
+    private static final long MILLI = 1_000_000;
+
+    private long now;
+    private List<Integer> ticks;
+    private List<Double> frames;
+    private GameLoop loop;
+
+    @Before
+    public void setUp() {
+        ticks = new ArrayList<>();
+        frames = new ArrayList<>();
+        // 10 ticks and 20 frames per second, catching up at most 3 ticks at once
+        loop = new GameLoop(ticks::add, frames::add, 10, 20, 3, () -> now);
+        loop.advance(); // Starts the clock
+    }
+
+    @Test
+    public void ticksAtFixedRate() {
+        now = 250 * MILLI;
+        assertEquals(2, loop.advance());
+        assertEquals(List.of(0, 1), ticks);
+        assertEquals(0.5, frames.get(frames.size() - 1), 1e-9);
+
+        now = 260 * MILLI; // Before both the next tick and the next frame
+        assertEquals(0, loop.advance());
+        assertEquals(2, frames.size());
+
+        now = 300 * MILLI;
+        assertEquals(1, loop.advance());
+        assertEquals(3, loop.getTick());
+    }
+
+    @Test
+    public void catchUpIsBounded() {
+        now = 1000 * MILLI;
+        assertEquals(3, loop.advance());
+        assertEquals(7, loop.getDroppedTicks());
+
+        now = 1100 * MILLI;
+        assertEquals(1, loop.advance());
+        assertEquals(List.of(0, 1, 2, 3), ticks);
+    }
+
+    @Test
+    public void pausedLoopRunsTasksOnly() {
+        loop.post(() -> loop.setPaused(true));
+        now = 500 * MILLI;
+        assertEquals(0, loop.advance());
+        assertEquals(2, frames.size());
+
+        loop.post(() -> loop.setPaused(false));
+        now = 550 * MILLI;
+        assertEquals(0, loop.advance()); // No backlog from while paused
+        now = 650 * MILLI;
+        assertEquals(1, loop.advance());
+    }
+
+    @Test
+    public void runsOnOwnThread() throws InterruptedException {
+        List<Integer> seen = new ArrayList<>();
+        GameLoop realTime = new GameLoop(tick -> {
+            synchronized (seen) {
+                seen.add(tick);
+            }
+        }, alpha -> { }, 1000, 60);
+        realTime.start();
+        Thread.sleep(100);
+        realTime.stop();
+
+        assertFalse(realTime.isRunning());
+        synchronized (seen) {
+            assertFalse(seen.isEmpty());
+            assertEquals(0, (int) seen.get(0));
+        }
+    }
+}
@@ -91,4 +91,19 @@ public class GameModelTest {
         gameModel.fireBullet();
         assertEquals("", lastLog);
     }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void spaceObjectsAreReadOnly() {
+        gameModel.getSpaceObjects().add(new Asteroid(1, 1));
+    }
+
+    @Test
+    public void addedObjectsCollide() {
+        Ship ship = gameModel.getShip();
+        Asteroid asteroid = new Asteroid(ship.getX(), ship.getY());
+        gameModel.addObject(asteroid);
+        gameModel.checkCollisions();
+
+        assertEquals(false, gameModel.getSpaceObjects().contains(asteroid));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package game;
+
+import game.achievements.Achievement;
+import game.core.SpaceObject;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class HudModelTest {
+    private final Map<String, String> stats = new LinkedHashMap<>();
+    private UI ui;
+    private HudModel hud;
+
+    @Before
+    public void setUp() {
+        ui = new UI() {
+            @Override
+            public void start() {
+            }
+
+            @Override
+            public void pause() {
+            }
+
+            @Override
+            public void stop() {
+            }
+
+            @Override
+            public void onStep(Tickable tickable) {
+            }
+
+            @Override
+            public void onKey(KeyHandler key) {
+            }
+
+            @Override
+            public void render(List<SpaceObject> objects) {
+            }
+
+            @Override
+            public void log(String message) {
+            }
+
+            @Override
+            public void setStat(String label, String value) {
+                stats.put(label, value);
+            }
+
+            @Override
+            public void logAchievementMastered(String message) {
+            }
+
+            @Override
+            public void logAchievements(List<Achievement> achievements) {
+            }
+
+            @Override
+            public void setAchievementProgressStat(String achievementName, double progressPercentage) {
+            }
+        };
+        hud = new HudModel();
+    }
+
+    @Test
+    public void firstPublishSetsEveryStat() {
+        hud.update(0, 100, 1, 0);
+        assertEquals(4, hud.publish(ui));
+        assertEquals(Map.of("Score", "0", "Health", "100", "Level", "1", "Time Survived", "0 seconds"), stats);
+    }
+
+    @Test
+    public void onlyChangesPublished() {
+        hud.update(0, 100, 1, 0);
+        hud.publish(ui);
+        stats.clear();
+
+        hud.update(0, 100, 1, 999);
+        assertFalse(hud.isChanged());
+        assertEquals(0, hud.publish(ui));
+
+        hud.update(10, 90, 1, 1000);
+        assertEquals(3, hud.publish(ui));
+        assertEquals(Map.of("Score", "10", "Health", "90", "Time Survived", "1 seconds"), stats);
+    }
+
+    @Test
+    public void invalidateRepublishesEverything() {
+        hud.update(0, 100, 1, 0);
+        hud.publish(ui);
+        hud.invalidate();
+        assertEquals(4, hud.publish(ui));
+    }
+}
@@ -0,0 +1,62 @@
+package game;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(0.99));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 8; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(4, histogram.getPercentile(0.5));
+        assertEquals(8, histogram.getPercentile(1.0));
+        assertEquals(4.5, histogram.getMean(), 0.0001);
+    }
+
+    @Test
+    public void percentilesWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(50_000_000, histogram.getPercentile(0.5), 50_000_000 * 0.125);
+        assertEquals(99_000_000, histogram.getPercentile(0.99), 99_000_000 * 0.125);
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void resetClears() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void profilerKeepsPhasesApart() {
+        TickProfiler profiler = new TickProfiler();
+        profiler.record(TickPhase.RENDER, 500);
+        profiler.recordTick(900);
+
+        assertEquals(1, profiler.getHistogram(TickPhase.RENDER).getCount());
+        assertEquals(0, profiler.getHistogram(TickPhase.UPDATE).getCount());
+        assertEquals(900, profiler.getTickHistogram().getMax());
+    }
+}
@@ -0,0 +1,64 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PackedStorageTest {
+
+    private GameModel play(boolean packed) {
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker());
+        model.setPackedStorage(packed);
+        return play(model);
+    }
+
+    private GameModel play(GameModel model) {
+        model.setRandomSeed(42);
+        for (int tick = 0; tick < 3000; tick++) {
+            model.updateGame(tick);
+            model.checkCollisions();
+            model.spawnObjects();
+            model.levelUp();
+            if (tick % 3 == 0) {
+                model.fireBullet();
+            }
+        }
+        return model;
+    }
+
+    @Test
+    public void sameOutcomeAsObjectStorage() {
+        GameModel objects = play(false);
+        GameModel packed = play(true);
+
+        assertEquals(objects.getSpaceObjects().toString(), packed.getSpaceObjects().toString());
+        assertEquals(objects.getShip().getHealth(), packed.getShip().getHealth());
+        assertEquals(objects.getShip().getScore(), packed.getShip().getScore());
+        assertEquals(objects.getLevel(), packed.getLevel());
+        assertEquals(objects.getStatsTracker().getShotsHit(), packed.getStatsTracker().getShotsHit());
+    }
+
+    @Test
+    public void poolingKeepsOutcome() {
+        GameModel objects = play(false);
+        GameModel pooled = new GameModel(message -> { }, new PlayerStatsTracker());
+        pooled.setObjectPooling(true);
+        play(pooled);
+
+        assertEquals(objects.getSpaceObjects().toString(), pooled.getSpaceObjects().toString());
+        assertEquals(objects.getShip().getHealth(), pooled.getShip().getHealth());
+        assertTrue(pooled.getPoolSize() > 0);
+    }
+
+    @Test
+    public void switchingModesKeepsObjects() {
+        GameModel model = play(false);
+        String before = model.getSpaceObjects().toString();
+        model.setPackedStorage(true);
+        assertEquals(before, model.getSpaceObjects().toString());
+        model.setPackedStorage(false);
+        assertEquals(before, model.getSpaceObjects().toString());
+    }
+}
@@ -0,0 +1,89 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelTickTest {
+
+    private GameModel play(ForkJoinPool pool) {
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), 200, 400);
+        model.setParallel(pool, 8);
+        model.setRandomSeed(3);
+        Random placement = new Random(7);
+        for (int i = 0; i < 4000; i++) {
+            int x = placement.nextInt(200);
+            int y = placement.nextInt(400);
+            switch (placement.nextInt(4)) {
+                case 0 -> model.addObject(new Bullet(x, y));
+                case 1 -> model.addObject(new Asteroid(x, y));
+                case 2 -> model.addObject(new Enemy(x, y));
+                default -> model.addObject(new HealthPowerUp(x, y));
+            }
+        }
+        for (int tick = 0; tick < 500; tick++) {
+            model.updateGame(tick);
+            model.checkCollisions();
+            model.spawnObjects();
+            model.levelUp();
+            model.fireBullet();
+        }
+        return model;
+    }
+
+    @Test
+    public void sameOutcomeAsSequential() {
+        GameModel sequential = play(null);
+        GameModel parallel = play(new ForkJoinPool(4));
+
+        assertEquals(sequential.getSpaceObjects().toString(), parallel.getSpaceObjects().toString());
+        assertEquals(sequential.getShip().getHealth(), parallel.getShip().getHealth());
+        assertEquals(sequential.getStatsTracker().getShotsHit(), parallel.getStatsTracker().getShotsHit());
+    }
+
+    @Test
+    public void objectsIndexedOutsideGridAreReindexed() {
+        GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), 200, 400);
+        model.setParallel(new ForkJoinPool(4), 8);
+        Asteroid[] asteroids = new Asteroid[50];
+        for (int i = 0; i < asteroids.length; i++) {
+            asteroids[i] = new Asteroid(i * 4, -1); // Indexed outside the grid
+            model.addObject(asteroids[i]);
+            asteroids[i].tick(10); // Moved into the top row without the grid knowing
+        }
+        model.updateGame(10);
+
+        for (Asteroid asteroid : asteroids) {
+            assertEquals(1, asteroid.getY());
+            assertFalse(model.isOccupying(asteroid.getX(), asteroid.getY())); // Indexed at its new cell
+        }
+    }
+
+    @Test
+    public void fullRowMovesIntoEmptyRow() {
+        ForkJoinPool pool = new ForkJoinPool(8);
+        for (int trial = 0; trial < 200; trial++) {
+            GameModel model = new GameModel(message -> { }, new PlayerStatsTracker(), 400, 50);
+            model.setParallel(pool, 16);
+            Asteroid[] asteroids = new Asteroid[400];
+            for (int x = 0; x < asteroids.length; x++) {
+                asteroids[x] = new Asteroid(x, 29);
+                model.addObject(asteroids[x]);
+            }
+            model.updateGame(10); // Every strip moves its asteroids into row 30 at once
+
+            for (Asteroid asteroid : asteroids) {
+                assertEquals(30, asteroid.getY());
+                assertFalse(model.isOccupying(asteroid.getX(), 30));
+                assertTrue(model.isOccupying(asteroid.getX(), 29));
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package game;
+
+import game.achievements.Achievement;
+import game.achievements.AchievementFile;
+import game.achievements.AchievementManager;
+import game.achievements.GameAchievement;
+import game.achievements.PlayerStatsTracker;
+import game.core.SpaceObject;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RefreshAchievementsTest {
+    private GameController controller;
+    private PlayerStatsTracker stats;
+    private final List<String> saved = new ArrayList<>();
+    private final List<String> updated = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        AchievementManager manager = new AchievementManager(new AchievementFile() {
+            public void setFileLocation(String fileLocation) { }
+            public String getFileLocation() { return null; }
+            public void save(String data) { saved.add(data); }
+            public List<String> read() { return saved; }
+        }) {
+            @Override
+            public void updateAchievement(String achievementName, double absoluteProgressValue) {
+                updated.add(achievementName);
+                super.updateAchievement(achievementName, absoluteProgressValue);
+            }
+        };
+        manager.addAchievement(new GameAchievement("Survivor", "Survive"));
+        manager.addAchievement(new GameAchievement("Enemy Exterminator", "Hit 20 enemies"));
+        manager.addAchievement(new GameAchievement("Sharp Shooter", "Hit 99% of shots"));
+
+        controller = new GameController(new UI() {
+            public void start() { }
+            public void pause() { }
+            public void stop() { }
+            public void onStep(Tickable tickable) { }
+            public void onKey(KeyHandler key) { }
+            public void render(List<SpaceObject> objects) { }
+            public void log(String message) { }
+            public void setStat(String label, String value) { }
+            public void logAchievementMastered(String message) { }
+            public void logAchievements(List<Achievement> achievements) { }
+            public void setAchievementProgressStat(String achievementName, double progressPercentage) { }
+        }, manager);
+        stats = controller.getModel().getStatsTracker();
+    }
+
+    @Test
+    public void unchangedStatsAreNotRecomputed() {
+        controller.refreshAchievements(0);
+        assertTrue(updated.contains("Enemy Exterminator"));
+        assertTrue(updated.contains("Sharp Shooter"));
+
+        updated.clear();
+        controller.refreshAchievements(1);
+        assertFalse(updated.contains("Enemy Exterminator"));
+        assertFalse(updated.contains("Sharp Shooter"));
+    }
+
+    @Test
+    public void shotFiredUpdatesOnlySharpShooter() {
+        controller.refreshAchievements(0);
+        updated.clear();
+
+        stats.recordShotFired();
+        controller.refreshAchievements(1);
+        assertFalse(updated.contains("Enemy Exterminator"));
+        assertTrue(updated.contains("Sharp Shooter"));
+    }
+
+    @Test
+    public void masteredAchievementsAreSavedOnce() {
+        for (int i = 0; i < 20; i++) {
+            stats.recordShotFired();
+            stats.recordShotHit();
+        }
+        controller.refreshAchievements(0);
+        controller.refreshAchievements(1);
+
+        assertEquals(List.of("Achievement Mastered: Enemy Exterminator - Hit 20 enemies",
+                "Achievement Mastered: Sharp Shooter - Hit 99% of shots"), saved);
+    }
+
+    @Test
+    public void listenersAreNotified() {
+        int[] counts = new int[2];
+        PlayerStatsTracker.Listener listener = new PlayerStatsTracker.Listener() {
+            @Override
+            public void onShotFired(PlayerStatsTracker tracker) {
+                counts[0]++;
+            }
+
+            @Override
+            public void onShotHit(PlayerStatsTracker tracker) {
+                counts[1]++;
+            }
+        };
+        stats.addListener(listener);
+        stats.recordShotFired();
+        stats.recordShotHit();
+        stats.removeListener(listener);
+        stats.recordShotFired();
+
+        assertArrayEquals(new int[] {1, 1}, counts);
+    }
+}
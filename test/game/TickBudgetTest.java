@@ -0,0 +1,64 @@
+package game;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TickBudgetTest {
+    private List<String> logs;
+    private TickBudget budget;
+
+    @Before
+    public void setUp() {
+        logs = new ArrayList<>();
+        budget = new TickBudget(1000, logs::add);
+    }
+
+    private static long[] phases(TickPhase slowest) {
+        long[] nanos = new long[TickPhase.values().length];
+        nanos[slowest.ordinal()] = 900;
+        nanos[TickPhase.RENDER.ordinal()] = 300;
+        return nanos;
+    }
+
+    @Test
+    public void overrunsBlameSlowestPhase() {
+        budget.recordTick(phases(TickPhase.COLLISIONS), 1200);
+        budget.recordTick(phases(TickPhase.UPDATE), 500);
+
+        assertEquals(2, budget.getTicks());
+        assertEquals(1, budget.getOverruns());
+        assertEquals(1, budget.getOverruns(TickPhase.COLLISIONS));
+        assertEquals(TickPhase.COLLISIONS, budget.getWorstPhase());
+        assertFalse(budget.isOverloaded());
+    }
+
+    @Test
+    public void framesSkippedWithinLimit() {
+        for (int i = 0; i < TickBudget.MAX_FRAME_SKIP; i++) {
+            assertTrue(budget.shouldSkipFrame(1500));
+        }
+        assertFalse(budget.shouldSkipFrame(1500)); // Forced to draw
+        assertTrue(budget.shouldSkipFrame(1500));
+        assertFalse(budget.shouldSkipFrame(10));
+        assertEquals(TickBudget.MAX_FRAME_SKIP + 1, budget.getSkippedFrames());
+    }
+
+    @Test
+    public void sustainedOverloadReportedOnce() {
+        for (int i = 0; i < TickBudget.OVERLOAD_TICKS * 2; i++) {
+            budget.recordTick(phases(TickPhase.ACHIEVEMENTS), 2000);
+        }
+        assertTrue(budget.isOverloaded());
+        assertEquals(1, logs.size());
+        assertTrue(logs.get(0).contains("ACHIEVEMENTS"));
+
+        budget.recordTick(phases(TickPhase.UPDATE), 100);
+        assertFalse(budget.isOverloaded());
+        assertEquals(2, logs.size());
+    }
+}
@@ -135,4 +135,22 @@ public class UpdateGameTest {
         assertEquals(false, objects.contains(ship));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void removalKeepsOrder() {
+        Asteroid first = new Asteroid(1, 5);
+        Bullet offScreen = new Bullet(2, 0);
+        Asteroid second = new Asteroid(3, 5);
+        Enemy bottom = new Enemy(4, 19);
+        Asteroid third = new Asteroid(5, 5);
+        gameModel.addObject(first);
+        gameModel.addObject(offScreen);
+        gameModel.addObject(second);
+        gameModel.addObject(bottom);
+        gameModel.addObject(third);
+        List<SpaceObject> objects = gameModel.getSpaceObjects();
+        gameModel.updateGame(10);
+
+        assertEquals(List.of(first, second, third), objects);
+    }
+
+}
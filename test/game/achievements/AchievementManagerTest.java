@@ -0,0 +1,102 @@
+package game.achievements;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AchievementManagerTest {
+    private final List<String> saved = new ArrayList<>();
+    private AchievementManager manager;
+
+    @Before
+    public void setUp() {
+        manager = new AchievementManager(new AchievementFile() {
+            public void setFileLocation(String fileLocation) { }
+            public String getFileLocation() { return null; }
+            public void save(String data) { saved.add(data); }
+            public List<String> read() { return saved; }
+        });
+    }
+
+    /**
+     * A GameAchievement that counts how often its progress is read.
+     */
+    private static class CountingAchievement extends GameAchievement {
+        private int reads;
+
+        CountingAchievement(String name) {
+            super(name, "Counts reads");
+        }
+
+        @Override
+        public double getProgress() {
+            reads++;
+            return super.getProgress();
+        }
+    }
+
+    @Test
+    public void masteredAchievementIsLoggedOnce() {
+        manager.addAchievement(new GameAchievement("Survivor", "Survive"));
+        manager.updateAchievement("Survivor", 1.0);
+        manager.logAchievementMastered();
+        manager.updateAchievement("Survivor", 0.5);
+        manager.updateAchievement("Survivor", 1.0);
+        manager.logAchievementMastered();
+
+        assertEquals(List.of("Achievement Mastered: Survivor - Survive"), saved);
+    }
+
+    @Test
+    public void unmasteredAchievementIsNotLogged() {
+        manager.addAchievement(new GameAchievement("Survivor", "Survive"));
+        manager.updateAchievement("Survivor", 0.99);
+        manager.logAchievementMastered();
+
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    public void achievementAddedMasteredIsLogged() {
+        GameAchievement achievement = new GameAchievement("Survivor", "Survive");
+        achievement.setProgress(1.0);
+        manager.addAchievement(achievement);
+        manager.logAchievementMastered();
+
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void onlyChangedAchievementsAreChecked() {
+        CountingAchievement changed = new CountingAchievement("Changed");
+        CountingAchievement unchanged = new CountingAchievement("Unchanged");
+        manager.addAchievement(changed);
+        manager.addAchievement(unchanged);
+        manager.logAchievementMastered();
+
+        changed.reads = 0;
+        unchanged.reads = 0;
+        manager.updateAchievement("Changed", 0.5);
+        manager.updateAchievement("Unchanged", 0.0); // Same progress as before
+        manager.logAchievementMastered();
+        manager.logAchievementMastered();
+
+        assertTrue(changed.reads > 0);
+        assertEquals(1, unchanged.reads); // Only read to compare with the new value
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateNameRejected() {
+        manager.addAchievement(new GameAchievement("Survivor", "Survive"));
+        manager.addAchievement(new GameAchievement("Survivor", "Another"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownNameRejected() {
+        manager.updateAchievement("Missing", 1.0);
+    }
+}
@@ -0,0 +1,191 @@
+package game.achievements;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class BinaryLogFileTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String location() {
+        return new File(folder.getRoot(), "achievements.bin").getPath();
+    }
+
+    @Test
+    public void savedEntriesReadBackInOrder() {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("first");
+            file.save("second – ünïcode");
+            file.save("");
+
+            assertEquals(3, file.size());
+            assertEquals(List.of("first", "second – ünïcode", ""), file.read());
+            assertEquals("second – ünïcode", file.get(1));
+        }
+    }
+
+    @Test
+    public void entriesSurviveReopening() {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("one");
+            file.save("two");
+        }
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("three");
+            assertEquals(List.of("one", "two", "three"), file.read());
+        }
+    }
+
+    @Test
+    public void readLastReturnsMostRecentEntries() {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            for (int i = 0; i < 100; i++) {
+                file.save("entry " + i);
+            }
+            assertEquals(List.of("entry 97", "entry 98", "entry 99"), file.readLast(3));
+            assertEquals(100, file.readLast(1000).size());
+            assertTrue(file.readLast(0).isEmpty());
+        }
+    }
+
+    @Test
+    public void containsFindsSavedEntries() {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("Achievement Mastered: Survivor - Survive for 10 minutes");
+            assertTrue(file.contains("Achievement Mastered: Survivor - Survive for 10 minutes"));
+            assertFalse(file.contains("Achievement Mastered: Sharpshooter - Hit 99% of shots"));
+
+            // "Aa" and "BB" share a hash code, so the record itself must be compared
+            file.save("Aa");
+            assertTrue(file.contains("Aa"));
+            assertFalse(file.contains("BB"));
+        }
+    }
+
+    @Test
+    public void containsFindsEntriesAfterReopening() {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("Aa");
+            file.save("first");
+        }
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            assertTrue(file.contains("first"));
+            assertTrue(file.contains("Aa"));
+            assertFalse(file.contains("BB"));
+            file.save("BB");
+            assertTrue(file.contains("BB"));
+        }
+    }
+
+    @Test
+    public void interruptedSaveIsDiscarded() throws Exception {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("complete");
+        }
+        // A record written without its index entry, and a partial index entry
+        try (RandomAccessFile log = new RandomAccessFile(location(), "rw");
+                RandomAccessFile index = new RandomAccessFile(location() + BinaryLogFile.INDEX_SUFFIX, "rw")) {
+            log.seek(log.length());
+            log.writeInt(7);
+            log.write("partial".getBytes());
+            index.seek(index.length());
+            index.writeInt(0);
+        }
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            assertEquals(List.of("complete"), file.read());
+            file.save("next");
+            assertEquals(List.of("complete", "next"), file.read());
+        }
+    }
+
+    @Test
+    public void indexedRecordsCutShortAreDiscarded() throws Exception {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("Survivor");
+            file.save("Sharp Shooter");
+        }
+        // The last index entry reached the disk, but only part of its record did
+        try (RandomAccessFile log = new RandomAccessFile(location(), "rw")) {
+            log.setLength(log.length() - 10);
+        }
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            assertEquals(List.of("Survivor"), file.read());
+            assertFalse(file.contains("Sharp Shooter"));
+            file.save("next");
+            assertEquals(List.of("Survivor", "next"), file.read());
+        }
+        // Only part of the first record's length is left
+        try (RandomAccessFile log = new RandomAccessFile(location(), "rw")) {
+            log.setLength(2);
+        }
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            assertEquals(0, file.size());
+            file.save("again");
+            assertEquals(List.of("again"), file.read());
+        }
+    }
+
+    @Test
+    public void recordsBeyondTwoGigabytesAreRead() throws Exception {
+        long offset = 1L << 31;
+        // A sparse log with a single record past the mapped region, indexed by hand
+        try (RandomAccessFile log = new RandomAccessFile(location(), "rw");
+                RandomAccessFile index = new RandomAccessFile(location() + BinaryLogFile.INDEX_SUFFIX, "rw")) {
+            log.seek(offset);
+            log.writeInt(4);
+            log.write("late".getBytes());
+            index.writeLong(offset);
+            index.writeInt("late".hashCode());
+        }
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            assertEquals(List.of("late"), file.read());
+            assertTrue(file.contains("late"));
+            file.save("later");
+            assertEquals("later", file.get(1));
+            assertEquals(List.of("late", "later"), file.readLast(2));
+        }
+    }
+
+    @Test
+    public void setFileLocationSwitchesLogs() {
+        String other = new File(folder.getRoot(), "other.bin").getPath();
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("one");
+            file.setFileLocation(other);
+            file.save("two");
+
+            assertEquals(other, file.getFileLocation());
+            assertEquals(List.of("two"), file.read());
+            file.setFileLocation(location());
+            assertEquals(List.of("one"), file.read());
+        }
+    }
+
+    @Test
+    public void streamRangeReadsOnlyRequestedEntries() {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            for (int i = 0; i < 10; i++) {
+                file.save("entry " + i);
+            }
+            assertEquals(List.of("entry 8", "entry 9"), file.stream(8, Long.MAX_VALUE).collect(Collectors.toList()));
+            assertEquals(file.read(), file.stream().collect(Collectors.toList()));
+            assertEquals(0, file.stream(50, 1).count());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfRange() {
+        try (BinaryLogFile file = new BinaryLogFile(location())) {
+            file.save("only");
+            file.get(1);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package game.achievements;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class BufferedFileHandlerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readSeesQueuedSaves() throws Exception {
+        File file = new File(folder.getRoot(), "achievements.log");
+        try (BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 60_000,
+                BufferedFileHandler.SyncPolicy.NONE)) {
+            handler.save("first");
+            handler.save("second");
+            assertEquals(List.of("first", "second"), handler.read());
+            assertEquals(0, handler.getPending());
+        }
+    }
+
+    @Test
+    public void streamSeesQueuedSaves() throws Exception {
+        File file = new File(folder.getRoot(), "achievements.log");
+        try (BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 60_000,
+                BufferedFileHandler.SyncPolicy.NONE)) {
+            handler.save("a");
+            handler.save("b");
+            try (Stream<String> entries = handler.stream(1, 1)) {
+                assertEquals(List.of("b"), entries.collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    public void savesWaitForTheFlushInterval() throws Exception {
+        File file = new File(folder.getRoot(), "achievements.log");
+        try (BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 60_000,
+                BufferedFileHandler.SyncPolicy.EVERY_BATCH)) {
+            handler.save("queued");
+            assertEquals(1, handler.getPending());
+            assertFalse(file.exists() && file.length() > 0);
+
+            assertTrue(handler.flush());
+            assertEquals(List.of("queued"), Files.readAllLines(file.toPath()));
+        }
+    }
+
+    @Test
+    public void interruptedFlushReportsIt() throws Exception {
+        File file = new File(folder.getRoot(), "achievements.log");
+        try (BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 60_000,
+                BufferedFileHandler.SyncPolicy.NONE)) {
+            handler.save("queued");
+            Thread.currentThread().interrupt();
+            assertFalse(handler.flush());
+            assertTrue(Thread.interrupted());
+            assertTrue(handler.flush());
+        }
+    }
+
+    @Test
+    public void failedWritesStayQueuedAndAreRetried() throws Exception {
+        File file = folder.newFolder("achievements.log"); // A directory cannot be opened for writing
+        try (BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 0,
+                BufferedFileHandler.SyncPolicy.NONE)) {
+            handler.save("kept");
+            try {
+                handler.flush();
+                fail("Expected the failed write to be reported");
+            } catch (UncheckedIOException e) {
+                assertEquals(1, handler.getPending());
+            }
+
+            assertTrue(file.delete());
+            assertTrue(handler.flush());
+            assertEquals(0, handler.getPending());
+            assertEquals(List.of("kept"), Files.readAllLines(file.toPath()));
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void closeReportsSavesThatCouldNotBeWritten() throws Exception {
+        File file = folder.newFolder("achievements.log");
+        BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 60_000,
+                BufferedFileHandler.SyncPolicy.NONE);
+        handler.save("lost");
+        handler.close();
+    }
+
+    @Test
+    public void concurrentSavesStayInOrderAcrossFiles() throws Exception {
+        File first = new File(folder.getRoot(), "first.log");
+        File second = new File(folder.getRoot(), "second.log");
+        try (BufferedFileHandler handler = new BufferedFileHandler(first.getPath(), 0,
+                BufferedFileHandler.SyncPolicy.NONE)) {
+            Thread saver = new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    handler.save("entry " + i);
+                }
+            });
+            saver.start();
+            while (handler.getPending() == 0 && saver.isAlive()) {
+                Thread.onSpinWait();
+            }
+            handler.setFileLocation(second.getPath());
+            saver.join();
+            handler.flush();
+
+            // The old file holds a prefix of the saves, and the new file holds the rest
+            List<String> lines = new ArrayList<>(Files.readAllLines(first.toPath()));
+            if (second.exists()) {
+                lines.addAll(Files.readAllLines(second.toPath()));
+            }
+            assertEquals(2_000, lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                assertEquals("entry " + i, lines.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void fullBatchIsCommittedWithoutWaiting() throws Exception {
+        File file = new File(folder.getRoot(), "achievements.log");
+        try (BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 60_000,
+                BufferedFileHandler.SyncPolicy.NONE)) {
+            for (int i = 0; i < BufferedFileHandler.MAX_BATCH; i++) {
+                handler.save("entry " + i);
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (handler.getPending() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(0, handler.getPending());
+            assertEquals(BufferedFileHandler.MAX_BATCH, Files.readAllLines(file.toPath()).size());
+        }
+    }
+
+    @Test
+    public void closeWritesPendingSaves() throws Exception {
+        File file = new File(folder.getRoot(), "achievements.log");
+        BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 60_000,
+                BufferedFileHandler.SyncPolicy.NONE);
+        handler.save("last");
+        handler.close();
+
+        assertEquals(List.of("last"), Files.readAllLines(file.toPath()));
+        assertThrows(IllegalStateException.class, () -> handler.save("too late"));
+    }
+
+    @Test
+    public void appendsToExistingFile() throws Exception {
+        File file = new File(folder.getRoot(), "achievements.log");
+        FileHandler plain = new FileHandler();
+        plain.setFileLocation(file.getPath());
+        plain.save("old");
+        try (BufferedFileHandler handler = new BufferedFileHandler(file.getPath(), 0,
+                BufferedFileHandler.SyncPolicy.NONE)) {
+            handler.save("new");
+            assertEquals(List.of("old", "new"), handler.read());
+        }
+    }
+
+    @Test
+    public void setFileLocationWritesPendingSavesToOldFile() throws Exception {
+        File first = new File(folder.getRoot(), "first.log");
+        File second = new File(folder.getRoot(), "second.log");
+        try (BufferedFileHandler handler = new BufferedFileHandler(first.getPath(), 60_000,
+                BufferedFileHandler.SyncPolicy.NONE)) {
+            handler.save("one");
+            handler.setFileLocation(second.getPath());
+            handler.save("two");
+
+            assertEquals(second.getPath(), handler.getFileLocation());
+            assertEquals(List.of("two"), handler.read());
+            assertEquals(List.of("one"), Files.readAllLines(first.toPath()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeIntervalRejected() {
+        new BufferedFileHandler("unused.log", -1, BufferedFileHandler.SyncPolicy.NONE);
+    }
+}
@@ -0,0 +1,72 @@
+package game.achievements;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class FileHandlerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private FileHandler handler;
+
+    @Before
+    public void setUp() {
+        handler = new FileHandler();
+        handler.setFileLocation(new File(folder.getRoot(), "achievements.log").getPath());
+    }
+
+    @Test
+    public void streamMatchesRead() {
+        for (int i = 0; i < 10; i++) {
+            handler.save("entry " + i);
+        }
+        try (Stream<String> entries = handler.stream()) {
+            assertEquals(handler.read(), entries.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void streamRange() {
+        for (int i = 0; i < 10; i++) {
+            handler.save("entry " + i);
+        }
+        try (Stream<String> entries = handler.stream(7, 5)) {
+            assertEquals(List.of("entry 7", "entry 8", "entry 9"), entries.collect(Collectors.toList()));
+        }
+        try (Stream<String> entries = handler.stream(20, 5)) {
+            assertEquals(0, entries.count());
+        }
+    }
+
+    @Test
+    public void streamOfMissingFileIsEmpty() {
+        try (Stream<String> entries = handler.stream()) {
+            assertEquals(0, entries.count());
+        }
+    }
+
+    @Test
+    public void defaultStreamUsesRead() {
+        AchievementFile file = new AchievementFile() {
+            public void setFileLocation(String fileLocation) { }
+            public String getFileLocation() { return null; }
+            public void save(String data) { }
+            public List<String> read() { return List.of("a", "b", "c"); }
+        };
+        assertEquals(List.of("b"), file.stream(1, 1).collect(Collectors.toList()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeRangeRejected() {
+        handler.stream(-1, 1);
+    }
+}
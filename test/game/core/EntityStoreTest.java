@@ -0,0 +1,71 @@
+package game.core;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EntityStoreTest {
+
+    @Test
+    public void tickMovesLikeObjects() {
+        EntityStore store = new EntityStore(10, 20);
+        store.add(EntityType.BULLET, 1, 5);
+        store.add(EntityType.ASTEROID, 2, 5);
+        store.add(EntityType.SHIELD_POWER_UP, 3, 5);
+        store.tick(10);
+
+        assertEquals(4, store.getY(0));
+        assertEquals(6, store.getY(1));
+        assertEquals(6, store.getY(2));
+    }
+
+    @Test
+    public void outOfBoundsRemovedInOrder() {
+        EntityStore store = new EntityStore(10, 20);
+        store.add(EntityType.ASTEROID, 1, 5);
+        store.add(EntityType.BULLET, 2, 0);
+        store.add(EntityType.ENEMY, 3, 5);
+        store.tick(1);
+        store.removeOutOfBounds();
+
+        assertEquals(2, store.size());
+        assertEquals(EntityType.ASTEROID, store.getType(0));
+        assertEquals(EntityType.ENEMY, store.getType(1));
+    }
+
+    @Test
+    public void bulletHitsFirstTarget() {
+        EntityStore store = new EntityStore(10, 20);
+        store.add(EntityType.ASTEROID, 4, 4);
+        store.add(EntityType.ENEMY, 4, 4);
+        store.add(EntityType.BULLET, 4, 4);
+        int[] shots = new int[1];
+        store.checkCollisions(5, 10, new EntityStore.CollisionHandler() {
+            @Override
+            public void onShipCollision(int index) {
+                fail("No ship collision expected");
+            }
+
+            @Override
+            public void onEnemyShot(int index) {
+                shots[0]++;
+            }
+        });
+
+        assertEquals(0, shots[0]);
+        assertEquals(2, store.size());
+        assertFalse(store.getType(1) == EntityType.BULLET);
+    }
+
+    @Test
+    public void viewsMatchEntities() {
+        EntityStore store = new EntityStore(10, 20);
+        store.add(new HealthPowerUp(3, 7));
+        List<SpaceObject> objects = store.toSpaceObjects();
+
+        assertEquals(1, objects.size());
+        assertEquals("HealthPowerUp(3, 7)", objects.get(0).toString());
+    }
+}
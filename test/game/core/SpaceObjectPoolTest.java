@@ -0,0 +1,60 @@
+package game.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SpaceObjectPoolTest {
+
+    @Test
+    public void releasedObjectIsReused() {
+        SpaceObjectPool pool = new SpaceObjectPool();
+        SpaceObject bullet = pool.acquire(EntityType.BULLET, 1, 2);
+        pool.release(bullet);
+        assertEquals(1, pool.size());
+
+        SpaceObject reused = pool.acquire(EntityType.BULLET, 3, 4);
+        assertSame(bullet, reused);
+        assertEquals("Bullet(3, 4)", reused.toString());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void typesAreKeptApart() {
+        SpaceObjectPool pool = new SpaceObjectPool();
+        pool.release(pool.acquire(EntityType.ENEMY, 1, 2));
+
+        SpaceObject asteroid = pool.acquire(EntityType.ASTEROID, 1, 2);
+        assertTrue(asteroid instanceof Asteroid);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void foreignObjectsAreIgnored() {
+        SpaceObjectPool pool = new SpaceObjectPool();
+        pool.release(new Bullet(1, 2));
+
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void doubleReleaseIgnored() {
+        SpaceObjectPool pool = new SpaceObjectPool();
+        SpaceObject enemy = pool.acquire(EntityType.ENEMY, 1, 2);
+        pool.release(enemy);
+        pool.release(enemy);
+
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void capacityIsRespected() {
+        SpaceObjectPool pool = new SpaceObjectPool(1);
+        SpaceObject first = pool.acquire(EntityType.ASTEROID, 0, 0);
+        SpaceObject second = pool.acquire(EntityType.ASTEROID, 0, 0);
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(1, pool.size());
+    }
+}
@@ -0,0 +1,72 @@
+package game.core;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SpatialGridTest {
+
+    @Test
+    public void occupiedAfterAdd() {
+        SpatialGrid grid = new SpatialGrid(10, 20);
+        grid.add(new Asteroid(3, 4));
+
+        assertTrue(grid.isOccupied(3, 4));
+        assertFalse(grid.isOccupied(4, 3));
+    }
+
+    @Test
+    public void notOccupiedAfterRemove() {
+        SpatialGrid grid = new SpatialGrid(10, 20);
+        Asteroid asteroid = new Asteroid(3, 4);
+        grid.add(asteroid);
+        grid.remove(asteroid);
+
+        assertFalse(grid.isOccupied(3, 4));
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    public void updateMovesToNewCell() {
+        SpatialGrid grid = new SpatialGrid(10, 20);
+        Bullet bullet = new Bullet(5, 5);
+        grid.add(bullet);
+        bullet.tick(0);
+        grid.update(bullet);
+
+        assertFalse(grid.isOccupied(5, 5));
+        assertTrue(grid.isOccupied(5, 4));
+    }
+
+    @Test
+    public void cellKeepsInsertionOrder() {
+        SpatialGrid grid = new SpatialGrid(10, 20);
+        Enemy enemy = new Enemy(2, 3);
+        Bullet bullet = new Bullet(2, 4);
+        Asteroid asteroid = new Asteroid(2, 3);
+        grid.add(enemy);
+        grid.add(bullet);
+        grid.add(asteroid);
+        // Bullet moves into the cell after the asteroid, but was added before it
+        bullet.tick(0);
+        grid.update(bullet);
+
+        List<SpaceObject> objects = grid.objectsAt(2, 3);
+        assertEquals(3, objects.size());
+        assertSame(enemy, objects.get(0));
+        assertSame(bullet, objects.get(1));
+        assertSame(asteroid, objects.get(2));
+    }
+
+    @Test
+    public void outOfBoundsObjectsAreFound() {
+        SpatialGrid grid = new SpatialGrid(10, 20);
+        Ship ship = new Ship(10, 5, 50);
+        grid.add(ship);
+
+        assertTrue(grid.isOccupied(10, 5));
+        assertEquals(1, grid.objectsAt(10, 5).size());
+    }
+}
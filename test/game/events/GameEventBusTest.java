@@ -0,0 +1,68 @@
+package game.events;
+
+import game.core.EntityType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameEventBusTest {
+
+    @Test
+    public void deliversOnlySubscribedTypes() {
+        GameEventBus bus = new GameEventBus();
+        List<String> received = new ArrayList<>();
+        bus.subscribe(GameEventType.SHIP_HIT, event -> received.add(event.toString()));
+        bus.publish(GameEventType.SHIP_HIT, EntityType.ASTEROID, 5, 10, 10);
+        bus.publish(GameEventType.LEVEL_UP, null, 0, 0, 2);
+
+        assertEquals(List.of("SHIP_HIT(ASTEROID, 5, 10, 10)"), received);
+        assertTrue(bus.hasListeners(GameEventType.SHIP_HIT));
+        assertFalse(bus.hasListeners(GameEventType.LEVEL_UP));
+    }
+
+    @Test
+    public void reusesEventObject() {
+        GameEventBus bus = new GameEventBus();
+        List<GameEvent> received = new ArrayList<>();
+        bus.subscribeAll(received::add);
+        bus.publish(GameEventType.SHOT_FIRED, EntityType.BULLET, 1, 2, 0);
+        bus.publish(GameEventType.SHOT_HIT, EntityType.ENEMY, 3, 4, 0);
+
+        assertSame(received.get(0), received.get(1));
+        assertEquals(GameEventType.SHOT_HIT, received.get(1).getType());
+    }
+
+    @Test
+    public void nestedPublishGetsOwnEvent() {
+        GameEventBus bus = new GameEventBus();
+        List<String> received = new ArrayList<>();
+        bus.subscribe(GameEventType.SHOT_HIT, event -> {
+            bus.publish(GameEventType.LEVEL_UP, null, 0, 0, 3);
+            received.add(event.toString());
+        });
+        bus.subscribe(GameEventType.LEVEL_UP, event -> received.add(event.toString()));
+        bus.publish(GameEventType.SHOT_HIT, EntityType.ENEMY, 3, 4, 0);
+
+        assertEquals(List.of("LEVEL_UP(null, 0, 0, 3)", "SHOT_HIT(ENEMY, 3, 4, 0)"), received);
+    }
+
+    @Test
+    public void unsubscribeDuringDelivery() {
+        GameEventBus bus = new GameEventBus();
+        int[] calls = new int[2];
+        GameEventListener second = event -> calls[1]++;
+        bus.subscribe(GameEventType.SHOT_FIRED, event -> {
+            calls[0]++;
+            bus.unsubscribe(GameEventType.SHOT_FIRED, second);
+        });
+        bus.subscribe(GameEventType.SHOT_FIRED, second);
+        bus.publish(GameEventType.SHOT_FIRED, EntityType.BULLET, 0, 0, 0);
+        bus.publish(GameEventType.SHOT_FIRED, EntityType.BULLET, 0, 0, 0);
+
+        assertArrayEquals(new int[] {2, 1}, calls);
+        assertFalse(bus.unsubscribe(GameEventType.SHOT_FIRED, second));
+    }
+}
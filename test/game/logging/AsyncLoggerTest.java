@@ -0,0 +1,111 @@
+package game.logging;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+public class AsyncLoggerTest {
+
+    @Test
+    public void deliversInOrder() {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncLogger logger = new AsyncLogger(messages::add, 4)) {
+            logger.log("Game paused.");
+            for (int i = 0; i < 100; i++) {
+                logger.log(GameLogFormat.SHIP_MOVED, null, i, 10);
+                logger.flush(); // The ring only holds 4 events
+            }
+            logger.log(GameLogFormat.HIT, "X", 20, 0);
+            logger.flush();
+
+            assertEquals(102, messages.size());
+            assertEquals("Game paused.", messages.get(0));
+            assertEquals("Ship moved to (99, 10)", messages.get(100));
+            assertEquals("Hit by X! Health reduced by 20.", messages.get(101));
+        }
+    }
+
+    @Test
+    public void runsActionsInOrderWithMessages() {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncLogger logger = new AsyncLogger(messages::add, 4)) {
+            logger.log("before");
+            assertTrue(logger.execute(() -> {
+                messages.add("action");
+                threads.add(Thread.currentThread());
+            }));
+            logger.log("after");
+            logger.flush();
+
+            assertEquals(List.of("before", "action", "after"), messages);
+            assertEquals("async-logger", threads.get(0).getName());
+        }
+    }
+
+    @Test
+    public void dropsWhenFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncLogger logger = new AsyncLogger(message -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(message);
+        }, 2);
+        logger.log("first");
+        blocked.await(); // The consumer is stuck delivering the first message, and its slot is free
+        assertTrue(logger.log(GameLogFormat.TEXT, "second", 0, 0));
+        assertTrue(logger.log(GameLogFormat.TEXT, "third", 0, 0));
+        assertFalse(logger.log(GameLogFormat.TEXT, "fourth", 0, 0));
+        assertEquals(1, logger.getDropped());
+
+        release.countDown();
+        logger.close();
+        assertEquals(List.of("first", "second", "third"), messages);
+        assertFalse(logger.log(GameLogFormat.TEXT, "closed", 0, 0));
+    }
+
+    @Test
+    public void manyProducers() throws InterruptedException {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncLogger logger = new AsyncLogger(messages::add, 1 << 16);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    logger.log(GameLogFormat.SHIP_MOVED, null, id, i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        logger.close();
+
+        assertEquals(4000, messages.size());
+        for (int t = 0; t < threads.length; t++) {
+            // Each producer's events arrive in the order it logged them
+            int last = -1;
+            for (String message : messages) {
+                if (message.startsWith("Ship moved to (" + t + ", ")) {
+                    int i = Integer.parseInt(message.substring(message.indexOf(", ") + 2, message.length() - 1));
+                    assertEquals(last + 1, i);
+                    last = i;
+                }
+            }
+            assertEquals(999, last);
+        }
+    }
+}
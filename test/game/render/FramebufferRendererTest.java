@@ -0,0 +1,46 @@
+package game.render;
+
+import game.core.*;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FramebufferRendererTest {
+
+    @Test
+    public void drawsSpritesInTheirCells() {
+        SpriteAtlas atlas = SpriteAtlas.placeholder(4);
+        FramebufferRenderer renderer = new FramebufferRenderer(atlas, 10, 20);
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        buffer.publish(List.of(new Enemy(1, 2)), new Ship(5, 10, 100), 10, 20, 1, 0);
+        BufferedImage image = renderer.render(buffer.read(), 0.0);
+
+        assertEquals(40, image.getWidth());
+        assertEquals(80, image.getHeight());
+        assertEquals(atlas.getPixel(EntityType.ENEMY, 0, 0), image.getRGB(4, 8));
+        assertEquals(atlas.getPixel(EntityType.ENEMY, 0, 0), image.getRGB(7, 11));
+        assertEquals(atlas.getPixel(EntityType.SHIP, 0, 0), image.getRGB(20, 40));
+        assertEquals(0xFF000000, image.getRGB(8, 8));
+    }
+
+    @Test
+    public void interpolatesAndClips() {
+        SpriteAtlas atlas = SpriteAtlas.placeholder(4);
+        FramebufferRenderer renderer = new FramebufferRenderer(atlas, 10, 20);
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        buffer.publish(List.of(new Bullet(0, 0)), new Ship(), 10, 20, 1, 0);
+        BufferedImage image = renderer.render(buffer.read(), 0.5);
+
+        // Half way up out of the top row, so only the bottom half of the bullet is drawn
+        assertEquals(atlas.getPixel(EntityType.BULLET, 0, 0), image.getRGB(0, 1));
+        assertEquals(0xFF000000, image.getRGB(0, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void atlasSizeMustMatch() {
+        new FramebufferRenderer(SpriteAtlas.placeholder(4), 10, 20).setAtlas(SpriteAtlas.placeholder(8));
+    }
+}
@@ -0,0 +1,105 @@
+package game.render;
+
+import game.core.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class SnapshotBufferTest {
+
+    @Test
+    public void emptyBeforePublish() {
+        FrameSnapshot snapshot = new SnapshotBuffer().read();
+        assertEquals(0, snapshot.getFrame());
+        assertEquals(0, snapshot.size());
+    }
+
+    @Test
+    public void publishCopiesObjectsAndShip() {
+        SnapshotBuffer buffer = new SnapshotBuffer(1);
+        Ship ship = new Ship(5, 10, 80);
+        ship.addScore(30);
+        buffer.publish(List.of(new Asteroid(1, 2), new Bullet(3, 4)), ship, 10, 20, 2, 0);
+        FrameSnapshot snapshot = buffer.read();
+
+        assertEquals(1, snapshot.getFrame());
+        assertEquals(3, snapshot.size());
+        assertEquals(EntityType.ASTEROID, snapshot.getType(0));
+        assertEquals(4, snapshot.getY(1));
+        assertEquals(EntityType.SHIP, snapshot.getType(2));
+        assertEquals(5, snapshot.getX(2));
+        assertEquals(30, snapshot.getScore());
+        assertEquals(80, snapshot.getHealth());
+        assertEquals(2, snapshot.getLevel());
+    }
+
+    @Test
+    public void heldSnapshotUnchangedByLaterFrames() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        Ship ship = new Ship();
+        buffer.publish(List.of(new Asteroid(1, 1)), ship, 10, 20, 1, 0);
+        FrameSnapshot held = buffer.read();
+        for (int i = 0; i < 5; i++) {
+            buffer.publish(List.of(new Enemy(i, i), new Enemy(i, i)), ship, 10, 20, 1, i);
+        }
+
+        assertEquals(1, held.getFrame());
+        assertEquals(EntityType.ASTEROID, held.getType(0));
+        assertEquals(6, buffer.read().getFrame());
+        assertSame(buffer.read(), buffer.read());
+    }
+
+    @Test
+    public void interpolatesAlongPath() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        buffer.publish(List.of(new Bullet(1, 8), new Asteroid(2, 3)), new Ship(), 10, 20, 1, 15);
+        FrameSnapshot snapshot = buffer.read();
+
+        assertEquals(7.75, snapshot.getInterpolatedY(0, 0.25), 1e-9);
+        assertEquals(3.55, snapshot.getInterpolatedY(1, 0.5), 1e-9);
+        assertEquals(10.0, snapshot.getInterpolatedY(2, 0.5), 1e-9);
+    }
+
+    @Test
+    public void concurrentReadsNeverTear() throws InterruptedException {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        int frames = 20_000;
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            long last = 0;
+            while (last < frames && failure.get() == null) {
+                FrameSnapshot snapshot = buffer.read();
+                if (snapshot.getFrame() < last) {
+                    failure.set("Went back from frame " + last + " to " + snapshot.getFrame());
+                }
+                last = snapshot.getFrame();
+                // Every object in a frame is at x = frame % 10, and there are frame % 7 of them plus the ship
+                if (last > 0 && snapshot.size() != last % 7 + 1) {
+                    failure.set("Frame " + last + " has " + snapshot.size() + " objects");
+                }
+                for (int i = 0; i < snapshot.size(); i++) {
+                    if (snapshot.getX(i) != last % 10) {
+                        failure.set("Torn frame " + last);
+                    }
+                }
+            }
+        });
+        reader.start();
+        List<SpaceObject> objects = new ArrayList<>();
+        for (int frame = 1; frame <= frames; frame++) {
+            objects.clear();
+            for (int i = 0; i < frame % 7; i++) {
+                objects.add(new Asteroid(frame % 10, i));
+            }
+            buffer.publish(objects, new Ship(frame % 10, 0, 100), 10, 20, 1, frame);
+        }
+        reader.join(10_000);
+
+        assertNull(failure.get());
+        assertEquals(frames, buffer.read().getFrame());
+    }
+}
@@ -0,0 +1,54 @@
+package game.render;
+
+import game.core.EntityType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.Assert.*;
+
+public class SpriteAtlasTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void loadsAndScalesSprites() throws Exception {
+        BufferedImage ship = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < 2; x++) {
+            for (int y = 0; y < 2; y++) {
+                ship.setRGB(x, y, 0xFF112233);
+            }
+        }
+        ImageIO.write(ship, "png", new File(folder.getRoot(), "ship.png"));
+        SpriteAtlas atlas = SpriteAtlas.load(folder.getRoot().toPath(), 8);
+
+        assertEquals(8, atlas.getCellSize());
+        assertEquals(EntityType.values().length * 8, atlas.getWidth());
+        assertEquals(0xFF112233, atlas.getPixel(EntityType.SHIP, 7, 7));
+    }
+
+    @Test
+    public void missingSpritesUsePlaceholders() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SpriteAtlas atlas = SpriteAtlas.loadAsync(folder.getRoot().toPath(), 4, executor).get();
+            SpriteAtlas placeholder = SpriteAtlas.placeholder(4);
+            for (EntityType type : EntityType.values()) {
+                assertEquals(placeholder.getPixel(type, 0, 0), atlas.getPixel(type, 3, 3));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cellSizeMustBePositive() {
+        SpriteAtlas.placeholder(0);
+    }
+}
@@ -0,0 +1,82 @@
+package game.render;
+
+import game.core.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TerminalUITest {
+    private ByteArrayOutputStream bytes;
+    private TerminalUI ui;
+
+    @Before
+    public void setUp() {
+        bytes = new ByteArrayOutputStream();
+        ui = new TerminalUI(new PrintStream(bytes), new ByteArrayInputStream(new byte[0]), 10, 20, 30);
+        ui.setAscii(true);
+        ui.start();
+    }
+
+    private String output() {
+        String text = bytes.toString(StandardCharsets.UTF_8);
+        bytes.reset();
+        return text;
+    }
+
+    @Test
+    public void firstFrameDrawsEveryCell() {
+        ui.render(List.of(new Asteroid(2, 3)));
+        String frame = output();
+
+        // Cells along a row follow on from each other without cursor moves
+        assertTrue(frame.contains("\u001b[4;1H . . O . . . . . . ."));
+        assertEquals(199, frame.split(" \\.", -1).length - 1);
+    }
+
+    @Test
+    public void unchangedFrameWritesNothing() {
+        List<SpaceObject> objects = List.of(new Asteroid(2, 3), new Ship());
+        ui.render(objects);
+        output();
+        ui.render(objects);
+
+        assertEquals("", output());
+    }
+
+    @Test
+    public void onlyChangedCellsWritten() {
+        Bullet bullet = new Bullet(4, 8);
+        ui.render(List.of(bullet));
+        output();
+        bullet.tick(0);
+        ui.render(List.of(bullet));
+
+        // The bullet's new cell, and the cell it left, both on rows the cursor has to move to
+        assertEquals("\u001b[8;9H |\u001b[9;9H .", output());
+    }
+
+    @Test
+    public void statsRewrittenOnlyWhenChanged() {
+        ui.setStat("Score", "0");
+        ui.render(List.of());
+        assertTrue(output().contains("Score: 0"));
+
+        ui.setStat("Score", "0");
+        ui.render(List.of());
+        assertEquals("", output());
+
+        ui.setStat("Score", "10");
+        ui.log("Level Up!");
+        ui.render(List.of());
+        String frame = output();
+        assertTrue(frame.contains("Score: 10"));
+        assertTrue(frame.contains("Level Up!"));
+    }
+}
@@ -0,0 +1,38 @@
+package game.simulation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BatchRunnerTest {
+
+    @Test
+    public void matchesSingleGames() {
+        BatchSummary summary = new BatchRunner(4, 3000, InputSource::bot).run(10, 8);
+
+        assertEquals(8, summary.getGames());
+        for (int i = 0; i < 8; i++) {
+            SimulationResult single = new HeadlessRunner(10 + i, InputSource.bot()).run(3000);
+            SimulationResult batched = summary.getResults().get(i);
+            assertEquals(10 + i, batched.getSeed());
+            assertEquals(single.getTicks(), batched.getTicks());
+            assertEquals(single.getScore(), batched.getScore());
+            assertEquals(single.getShotsHit(), batched.getShotsHit());
+        }
+    }
+
+    @Test
+    public void aggregatesTicks() {
+        BatchSummary summary = new BatchRunner(2, 100, InputSource::none).run(0, 5);
+
+        assertEquals(500, summary.getTotalTicks());
+        assertEquals(100, summary.getMinSurvivalTicks());
+        assertEquals(100, summary.getMaxSurvivalTicks());
+        assertEquals(0, summary.getGamesOver());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNoThreads() {
+        new BatchRunner(0, 100, InputSource::none);
+    }
+}
@@ -0,0 +1,59 @@
+package game.simulation;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HeadlessRunnerTest {
+
+    @Test
+    public void sameSeedSameOutcome() {
+        SimulationResult first = new HeadlessRunner(5, InputSource.bot()).run(5000);
+        SimulationResult second = new HeadlessRunner(5, InputSource.bot()).run(5000);
+
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getHealth(), second.getHealth());
+        assertEquals(first.getShotsHit(), second.getShotsHit());
+        assertEquals(first.getFinalObjects(), second.getFinalObjects());
+    }
+
+    @Test
+    public void botPlaysTheSameInPackedStorage() {
+        GameModel packed = new GameModel(message -> { }, new PlayerStatsTracker());
+        packed.setPackedStorage(true);
+        SimulationResult first = new HeadlessRunner(5, InputSource.bot()).run(2000);
+        SimulationResult second = new HeadlessRunner(packed, 5, InputSource.bot()).run(2000);
+
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getShotsFired(), second.getShotsFired());
+        assertEquals(first.getShotsHit(), second.getShotsHit());
+        assertEquals(first.getHealth(), second.getHealth());
+    }
+
+    @Test
+    public void stopsAtTickLimit() {
+        SimulationResult result = new HeadlessRunner(5, InputSource.none()).run(50);
+
+        assertEquals(50, result.getTicks());
+        assertFalse(result.isGameOver());
+    }
+
+    @Test
+    public void stopsAtGameOver() {
+        SimulationResult result = new HeadlessRunner(5, InputSource.none()).run(1_000_000);
+
+        assertTrue(result.isGameOver());
+        assertTrue(result.getTicks() < 1_000_000);
+        assertEquals(0, result.getHealth());
+    }
+
+    @Test
+    public void scriptedFiring() {
+        SimulationResult result = new HeadlessRunner(5, InputSource.script("F.")).run(10);
+
+        assertEquals(5, result.getShotsFired());
+    }
+}